@@ -0,0 +1,91 @@
+package de.plushnikov.intellij.plugin.benchmark;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.testFramework.EdtTestUtil;
+import com.intellij.testFramework.fixtures.IdeaProjectTestFixture;
+import com.intellij.testFramework.fixtures.IdeaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.JavaCodeInsightTestFixture;
+import com.intellij.testFramework.fixtures.JavaTestFixtureFactory;
+import com.intellij.testFramework.fixtures.TestFixtureBuilder;
+import com.intellij.testFramework.fixtures.impl.LightTempDirTestFixtureImpl;
+import de.plushnikov.intellij.plugin.LombokTestUtil;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base state for all benchmarks: starts a headless light code insight fixture with lombok library and mock jdk,
+ * the same way as {@link de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase} does for tests.
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractLombokBenchmark {
+  private static final String[] FIELD_TYPES = {"String", "int", "java.util.List<String>", "Long", "boolean", "java.util.Map<String, Integer>"};
+
+  protected JavaCodeInsightTestFixture myFixture;
+
+  @Setup(Level.Trial)
+  public void setUpFixture() throws Throwable {
+    final IdeaTestFixtureFactory fixtureFactory = IdeaTestFixtureFactory.getFixtureFactory();
+    final TestFixtureBuilder<IdeaProjectTestFixture> fixtureBuilder = fixtureFactory.createLightFixtureBuilder(LombokTestUtil.getProjectDescriptor());
+    myFixture = JavaTestFixtureFactory.getFixtureFactory().createCodeInsightFixture(fixtureBuilder.getFixture(), new LightTempDirTestFixtureImpl(true));
+    myFixture.setTestDataPath(".");
+
+    EdtTestUtil.runInEdtAndWait(() -> {
+      myFixture.setUp();
+      LombokTestUtil.loadLombokLibrary(myFixture.getProjectDisposable(), myFixture.getModule());
+      setUpProject();
+    });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownFixture() throws Throwable {
+    EdtTestUtil.runInEdtAndWait(() -> myFixture.tearDown());
+  }
+
+  /**
+   * Called once per trial inside of EDT, after the fixture is ready
+   */
+  protected abstract void setUpProject() throws Exception;
+
+  /**
+   * Drops all psi caches (and with it all cached lombok augments), to measure a cold computation
+   */
+  protected void dropPsiCaches() throws Throwable {
+    EdtTestUtil.runInEdtAndWait(() -> PsiManager.getInstance(myFixture.getProject()).dropPsiCaches());
+  }
+
+  protected static <T> T readAction(@NotNull ThrowableComputable<T, RuntimeException> computable) {
+    return ReadAction.compute(computable);
+  }
+
+  @NotNull
+  protected PsiClass addSyntheticClass(@NotNull String path, @NotNull String className, @NotNull String classAnnotations, int fieldCount) {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject(path + "/" + className + ".java",
+      createSyntheticClassText(className, classAnnotations, fieldCount));
+    return psiFile.getClasses()[0];
+  }
+
+  /**
+   * Creates source of a class with the given annotations and fieldCount fields of different types.
+   * Only 'lombok.*' is imported, experimental annotations have to be used with full qualified name.
+   */
+  @NotNull
+  protected static String createSyntheticClassText(@NotNull String className, @NotNull String classAnnotations, int fieldCount) {
+    final StringBuilder builder = new StringBuilder();
+    builder.append("import lombok.*;\n\n");
+    builder.append(classAnnotations).append('\n');
+    builder.append("public class ").append(className).append(" {\n");
+    for (int i = 0; i < fieldCount; i++) {
+      builder.append("  private ").append(FIELD_TYPES[i % FIELD_TYPES.length]).append(" field").append(i).append(";\n");
+    }
+    builder.append("}\n");
+    return builder.toString();
+  }
+}
@@ -0,0 +1,76 @@
+package de.plushnikov.intellij.plugin.benchmark;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
+import lombok.Getter;
+import lombok.Setter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PsiAnnotationSearchUtil#findAnnotation} on all fields of a class, where every second field is annotated
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnnotationSearchBenchmark {
+
+  public static class AnnotationState extends AbstractLombokBenchmark {
+    @Param({"10", "100", "1000"})
+    public int fieldCount;
+
+    PsiField[] psiFields;
+
+    @Override
+    protected void setUpProject() {
+      final StringBuilder builder = new StringBuilder("import lombok.*;\n\npublic class AnnotatedDto {\n");
+      for (int i = 0; i < fieldCount; i++) {
+        builder.append(i % 2 == 0 ? "  @Getter @Deprecated" : "  @SuppressWarnings(\"unused\")").append(" private String field").append(i).append(";\n");
+      }
+      builder.append("}\n");
+      final PsiClass psiClass = myFixture.addClass(builder.toString());
+      psiFields = psiClass.getFields();
+    }
+  }
+
+  @Benchmark
+  public int findSingleAnnotation(AnnotationState state) {
+    return AbstractLombokBenchmark.readAction(() -> {
+      int found = 0;
+      for (PsiField psiField : state.psiFields) {
+        final PsiAnnotation psiAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiField, Getter.class);
+        if (null != psiAnnotation) {
+          found++;
+        }
+      }
+      return found;
+    });
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public int findOneOfAnnotations(AnnotationState state) {
+    return AbstractLombokBenchmark.readAction(() -> {
+      int found = 0;
+      for (PsiField psiField : state.psiFields) {
+        final PsiAnnotation psiAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiField, Setter.class, Getter.class);
+        if (null != psiAnnotation) {
+          found++;
+        }
+      }
+      return found;
+    });
+  }
+}
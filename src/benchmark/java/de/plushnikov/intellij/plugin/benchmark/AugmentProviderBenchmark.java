@@ -0,0 +1,70 @@
+package de.plushnikov.intellij.plugin.benchmark;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import de.plushnikov.intellij.plugin.provider.LombokAugmentProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LombokAugmentProvider#getAugments} for a typical DTO, once with cold caches (full processor pass)
+ * and once with warm caches (cache lookup only).
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AugmentProviderBenchmark {
+
+  public static class AugmentState extends AbstractLombokBenchmark {
+    @Param({"10", "100", "1000"})
+    public int fieldCount;
+
+    LombokAugmentProvider augmentProvider;
+    PsiClass psiClass;
+
+    @Override
+    protected void setUpProject() {
+      augmentProvider = new LombokAugmentProvider();
+      psiClass = addSyntheticClass("augment", "AugmentDto", "@Data @Builder @AllArgsConstructor @NoArgsConstructor", fieldCount);
+    }
+  }
+
+  public static class ColdAugmentState extends AugmentState {
+    @Setup(Level.Invocation)
+    public void dropCaches() throws Throwable {
+      dropPsiCaches();
+    }
+  }
+
+  @Benchmark
+  public List<PsiMethod> coldMethods(ColdAugmentState state) {
+    return AbstractLombokBenchmark.readAction(() -> state.augmentProvider.getAugments(state.psiClass, PsiMethod.class));
+  }
+
+  @Benchmark
+  public int coldAllTypes(ColdAugmentState state) {
+    return AbstractLombokBenchmark.readAction(() ->
+      state.augmentProvider.getAugments(state.psiClass, PsiField.class).size()
+        + state.augmentProvider.getAugments(state.psiClass, PsiMethod.class).size()
+        + state.augmentProvider.getAugments(state.psiClass, PsiClass.class).size());
+  }
+
+  @Benchmark
+  public List<PsiMethod> warmMethods(AugmentState state) {
+    return AbstractLombokBenchmark.readAction(() -> state.augmentProvider.getAugments(state.psiClass, PsiMethod.class));
+  }
+}
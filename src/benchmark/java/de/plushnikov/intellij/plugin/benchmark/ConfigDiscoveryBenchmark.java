@@ -0,0 +1,63 @@
+package de.plushnikov.intellij.plugin.benchmark;
+
+import com.intellij.psi.PsiClass;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigDiscovery;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConfigDiscovery} lookups for a class located deep in a package tree with several lombok.config files
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigDiscoveryBenchmark {
+
+  public static class ConfigState extends AbstractLombokBenchmark {
+    @Param({"2", "8", "16"})
+    public int packageDepth;
+
+    ConfigDiscovery configDiscovery;
+    PsiClass psiClass;
+
+    @Override
+    protected void setUpProject() {
+      configDiscovery = ConfigDiscovery.getInstance();
+
+      final StringBuilder path = new StringBuilder("config");
+      for (int i = 0; i < packageDepth; i++) {
+        path.append("/p").append(i);
+        if (i % 2 == 0) {
+          myFixture.addFileToProject(path + "/lombok.config", "lombok.accessors.prefix += p" + i + "\nlombok.log.fieldName = logger" + i + "\n");
+        }
+      }
+      psiClass = addSyntheticClass(path.toString(), "ConfigDto", "@Getter", 10);
+    }
+  }
+
+  @Benchmark
+  public String stringProperty(ConfigState state) {
+    return AbstractLombokBenchmark.readAction(() -> state.configDiscovery.getStringLombokConfigProperty(ConfigKey.LOG_FIELDNAME, state.psiClass));
+  }
+
+  @Benchmark
+  public boolean missingBooleanProperty(ConfigState state) {
+    return AbstractLombokBenchmark.readAction(() -> state.configDiscovery.getBooleanLombokConfigProperty(ConfigKey.ACCESSORS_FLUENT, state.psiClass));
+  }
+
+  @Benchmark
+  public String[] multipleValueProperty(ConfigState state) {
+    return AbstractLombokBenchmark.readAction(() -> state.configDiscovery.getMultipleValueLombokConfigProperty(ConfigKey.ACCESSORS_PREFIX, state.psiClass));
+  }
+}
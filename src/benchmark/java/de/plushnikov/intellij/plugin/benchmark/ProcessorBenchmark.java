@@ -0,0 +1,102 @@
+package de.plushnikov.intellij.plugin.benchmark;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.psi.PsiClass;
+import de.plushnikov.intellij.plugin.processor.Processor;
+import de.plushnikov.intellij.plugin.processor.clazz.EqualsAndHashCodeProcessor;
+import de.plushnikov.intellij.plugin.processor.clazz.builder.BuilderClassProcessor;
+import de.plushnikov.intellij.plugin.processor.clazz.builder.BuilderProcessor;
+import de.plushnikov.intellij.plugin.processor.clazz.builder.SuperBuilderClassProcessor;
+import de.plushnikov.intellij.plugin.processor.clazz.builder.SuperBuilderProcessor;
+import de.plushnikov.intellij.plugin.processor.field.DelegateFieldProcessor;
+import io.mateu.intellij.plugin.processor.clazz.MateuMDDEntityProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures single processors (and the handlers behind them) directly, without augment caching
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProcessorBenchmark {
+
+  public enum ProcessorKind {
+    BUILDER("@Builder", BuilderClassProcessor.class, BuilderProcessor.class),
+    SUPER_BUILDER("@lombok.experimental.SuperBuilder", SuperBuilderClassProcessor.class, SuperBuilderProcessor.class),
+    DELEGATE("", DelegateFieldProcessor.class),
+    EQUALS_AND_HASH_CODE("@EqualsAndHashCode", EqualsAndHashCodeProcessor.class),
+    MATEU_MDD_ENTITY("@MateuMDDEntity", MateuMDDEntityProcessor.class);
+
+    private final String classAnnotations;
+    private final Class<? extends Processor>[] processorClasses;
+
+    @SafeVarargs
+    ProcessorKind(String classAnnotations, Class<? extends Processor>... processorClasses) {
+      this.classAnnotations = classAnnotations;
+      this.processorClasses = processorClasses;
+    }
+  }
+
+  public static class ProcessorState extends AbstractLombokBenchmark {
+    @Param({"BUILDER", "SUPER_BUILDER", "DELEGATE", "EQUALS_AND_HASH_CODE", "MATEU_MDD_ENTITY"})
+    public ProcessorKind processorKind;
+
+    @Param({"10", "100", "1000"})
+    public int fieldCount;
+
+    Processor[] processors;
+    PsiClass psiClass;
+
+    @Override
+    protected void setUpProject() {
+      processors = new Processor[processorKind.processorClasses.length];
+      for (int i = 0; i < processors.length; i++) {
+        processors[i] = ServiceManager.getService(processorKind.processorClasses[i]);
+      }
+
+      if (processorKind == ProcessorKind.DELEGATE) {
+        psiClass = myFixture.addClass(createDelegateClassText(fieldCount));
+      } else {
+        psiClass = addSyntheticClass("processor", "ProcessorDto", processorKind.classAnnotations, fieldCount);
+      }
+    }
+
+    /**
+     * Class with fieldCount fields, every tenth of them delegating to a collection
+     */
+    private static String createDelegateClassText(int fieldCount) {
+      final StringBuilder builder = new StringBuilder("public class DelegateDto {\n");
+      for (int i = 0; i < fieldCount; i++) {
+        if (i % 10 == 0) {
+          builder.append("  @lombok.experimental.Delegate private java.util.Collection<String> field").append(i).append(";\n");
+        } else {
+          builder.append("  private String field").append(i).append(";\n");
+        }
+      }
+      builder.append("}\n");
+      return builder.toString();
+    }
+  }
+
+  @Benchmark
+  public int process(ProcessorState state) {
+    return AbstractLombokBenchmark.readAction(() -> {
+      int generated = 0;
+      for (Processor processor : state.processors) {
+        generated += processor.process(state.psiClass).size();
+      }
+      return generated;
+    });
+  }
+}
@@ -0,0 +1,45 @@
+package de.plushnikov.intellij.plugin.action.metrics;
+
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.io.FileUtil;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Internal action: writes the collected lombok metrics as report to the log and as JSON to 'lombok-metrics.json'
+ * in the log directory, and shows the report
+ */
+public class DumpLombokMetricsAction extends DumbAwareAction {
+  private static final Logger LOG = Logger.getInstance(DumpLombokMetricsAction.class);
+
+  private static final String EXPORT_FILE_NAME = "lombok-metrics.json";
+
+  @Override
+  public void update(@NotNull AnActionEvent event) {
+    event.getPresentation().setEnabled(LombokMetrics.isEnabled());
+  }
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent event) {
+    final String report = LombokMetrics.createReport();
+    LOG.info("Lombok metrics:\n" + report);
+
+    final File exportFile = new File(PathManager.getLogPath(), EXPORT_FILE_NAME);
+    String message = report + "\nJSON written to " + exportFile.getPath();
+    try {
+      FileUtil.writeToFile(exportFile, LombokMetrics.toJson());
+    } catch (IOException ex) {
+      LOG.warn("Failed to write lombok metrics to " + exportFile, ex);
+      message = report + "\nFailed to write JSON: " + ex.getMessage();
+    }
+
+    Messages.showInfoMessage(event.getProject(), message, "Lombok Metrics");
+  }
+}
@@ -0,0 +1,25 @@
+package de.plushnikov.intellij.plugin.action.metrics;
+
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAwareToggleAction;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Internal action to start or stop collecting of lombok metrics
+ */
+public class ToggleLombokMetricsAction extends DumbAwareToggleAction {
+
+  @Override
+  public boolean isSelected(@NotNull AnActionEvent event) {
+    return LombokMetrics.isEnabled();
+  }
+
+  @Override
+  public void setSelected(@NotNull AnActionEvent event, boolean state) {
+    if (state) {
+      LombokMetrics.reset();
+    }
+    LombokMetrics.setEnabled(state);
+  }
+}
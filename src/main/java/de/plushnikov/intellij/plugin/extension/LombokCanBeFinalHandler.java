@@ -5,6 +5,7 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.util.PsiTreeUtil;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import lombok.Data;
 import lombok.Setter;
@@ -14,6 +15,8 @@ import lombok.Value;
  * Handler to produce a veto for elements with lombok methods behind
  */
 public class LombokCanBeFinalHandler extends CanBeFinalHandler {
+  private static final AnnotationMatcher SETTER_ANNOTATIONS = AnnotationMatcher.of(Setter.class, Data.class, Value.class);
+
   @Override
   public boolean canBeFinal(PsiMember member) {
     if (member instanceof PsiField) {
@@ -22,7 +25,7 @@ public class LombokCanBeFinalHandler extends CanBeFinalHandler {
       }
 
       final PsiClass psiClass = PsiTreeUtil.getParentOfType(member, PsiClass.class);
-      return null == psiClass || !PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Setter.class, Data.class, Value.class);
+      return null == psiClass || !PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, SETTER_ANNOTATIONS);
     }
     return true;
   }
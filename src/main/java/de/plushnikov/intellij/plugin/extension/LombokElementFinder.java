@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.extension;
 
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElementFinder;
@@ -11,9 +12,11 @@ import org.jetbrains.annotations.Nullable;
 public class LombokElementFinder extends PsiElementFinder {
 
   private final JavaFileManager myFileManager;
+  private final DumbService myDumbService;
 
   public LombokElementFinder(Project project) {
     myFileManager = JavaFileManager.getInstance(project);
+    myDumbService = DumbService.getInstance(project);
   }
 
   @Nullable
@@ -31,8 +34,14 @@ public class LombokElementFinder extends PsiElementFinder {
       return null;
     }
 
+    // without indices every lookup has to run the processors of the parent class
+    final boolean useIndex = !myDumbService.isDumb();
+    if (useIndex && !LombokGeneratedNameIndex.mayGenerate(shortName, scope)) {
+      return null;
+    }
+
     final PsiClass parentClass = myFileManager.findClass(parentName, scope);
-    if (null != parentClass) {
+    if (null != parentClass && (!useIndex || LombokGeneratedNameIndex.mayGenerate(parentClass, shortName))) {
       return parentClass.findInnerClassByName(shortName, false);
     }
 
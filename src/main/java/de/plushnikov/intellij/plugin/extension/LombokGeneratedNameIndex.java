@@ -0,0 +1,375 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiTypeElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes names of members and inner classes lombok may generate in a java file. Names are derived only from annotation
+ * short names, literal annotation attributes and declared fields, without resolving anything, so the index
+ * over-approximates: a file missing a name surely doesn't generate it, a file containing it only might.
+ * Files with annotations whose generated names can't be derived that way are indexed under {@link #ANY_NAME}.
+ */
+public class LombokGeneratedNameIndex extends ScalarIndexExtension<String> {
+  @NonNls
+  public static final ID<String, Void> NAME = ID.create("LombokGeneratedNameIndex");
+
+  /**
+   * Key of files which may generate members with names not known at indexing time
+   */
+  public static final String ANY_NAME = "";
+
+  private static final int INDEX_FORMAT_VERSION = 1;
+
+  private static final Set<String> GETTER_ANNOTATIONS = new HashSet<>(Arrays.asList("Getter", "Data", "Value"));
+  private static final Set<String> SETTER_ANNOTATIONS = new HashSet<>(Arrays.asList("Setter", "Data"));
+  private static final Set<String> WITHER_ANNOTATIONS = new HashSet<>(Arrays.asList("With", "Wither"));
+  private static final Set<String> TO_STRING_ANNOTATIONS = new HashSet<>(Arrays.asList("ToString", "Data", "Value"));
+  private static final Set<String> EQUALS_ANNOTATIONS = new HashSet<>(Arrays.asList("EqualsAndHashCode", "JPAEqualsAndHashCode", "Data", "Value"));
+  private static final Set<String> LOG_ANNOTATIONS = new HashSet<>(Arrays.asList("Log", "Log4j", "Log4j2", "Slf4j", "XSlf4j",
+    "CommonsLog", "JBossLog", "Flogger", "CustomLog"));
+  private static final Set<String> UNPREDICTABLE_ANNOTATIONS = new HashSet<>(Arrays.asList("Delegate", "FieldNameConstants", "MateuMDDEntity"));
+
+  @NotNull
+  @Override
+  public ID<String, Void> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, Void, FileContent> getIndexer() {
+    return new DataIndexer<String, Void, FileContent>() {
+      @NotNull
+      @Override
+      public Map<String, Void> map(@NotNull FileContent inputData) {
+        final Map<String, Void> result = new HashMap<>();
+        // every lombok annotation needs either an import or a qualified name, so skip parsing of all other files
+        if (!StringUtil.contains(inputData.getContentAsText(), "lombok")) {
+          return result;
+        }
+        final PsiFile psiFile = inputData.getPsiFile();
+        if (psiFile instanceof PsiJavaFile) {
+          for (String name : collectGeneratedNames((PsiJavaFile) psiFile)) {
+            result.put(name, null);
+          }
+        }
+        return result;
+      }
+    };
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  @Override
+  public int getVersion() {
+    return INDEX_FORMAT_VERSION;
+  }
+
+  /**
+   * Checks if any file of the scope may generate a member or inner class with the given name
+   */
+  public static boolean mayGenerate(@NotNull String name, @NotNull GlobalSearchScope scope) {
+    return containsKey(name, scope) || containsKey(ANY_NAME, scope);
+  }
+
+  /**
+   * Checks if the file of the given class may generate a member or inner class with the given name.
+   * Classes without a physical file are never excluded.
+   */
+  public static boolean mayGenerate(@NotNull PsiClass psiClass, @NotNull String name) {
+    return mayGenerateAny(psiClass, Collections.singleton(name));
+  }
+
+  /**
+   * Checks if the file of the given class may generate a member or inner class with any of the given names,
+   * with one lookup of the names of the file. Classes without a physical file are never excluded.
+   */
+  public static boolean mayGenerateAny(@NotNull PsiClass psiClass, @NotNull Collection<String> names) {
+    final PsiFile psiFile = psiClass.getContainingFile();
+    final VirtualFile virtualFile = null == psiFile ? null : psiFile.getOriginalFile().getVirtualFile();
+    if (null == virtualFile) {
+      return true;
+    }
+
+    final Set<String> generatedNames = FileBasedIndex.getInstance().getFileData(NAME, virtualFile, psiClass.getProject()).keySet();
+    if (generatedNames.contains(ANY_NAME)) {
+      return true;
+    }
+    for (String name : names) {
+      if (generatedNames.contains(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean containsKey(@NotNull String name, @NotNull GlobalSearchScope scope) {
+    return !FileBasedIndex.getInstance().processValues(NAME, name, null, (file, value) -> false, scope);
+  }
+
+  /**
+   * All accessor names lombok may generate for a field with the given name, considering any configured prefix
+   */
+  @NotNull
+  public static Set<String> getAccessorNames(@NotNull String fieldName) {
+    final Set<String> result = new HashSet<>();
+    addAccessorNames(result, getBaseNames(fieldName), "get", "is", "set", "with");
+    return result;
+  }
+
+  @NotNull
+  static Set<String> collectGeneratedNames(@NotNull PsiJavaFile psiJavaFile) {
+    final Set<String> result = new HashSet<>();
+    for (PsiClass psiClass : psiJavaFile.getClasses()) {
+      collectGeneratedNames(psiClass, result);
+    }
+    return result;
+  }
+
+  private static void collectGeneratedNames(@NotNull PsiClass psiClass, @NotNull Set<String> result) {
+    final String className = StringUtil.notNullize(psiClass.getName());
+    final Set<String> classAnnotations = getAnnotationNames(psiClass);
+
+    final Collection<PsiField> psiFields = PsiClassUtil.collectClassFieldsIntern(psiClass);
+    for (PsiField psiField : psiFields) {
+      final Set<String> fieldAnnotations = getAnnotationNames(psiField);
+      final String fieldName = psiField.getName();
+      final Set<String> baseNames = getBaseNames(fieldName);
+      if (containsAny(classAnnotations, GETTER_ANNOTATIONS) || fieldAnnotations.contains("Getter")) {
+        addAccessorNames(result, baseNames, "get", "is");
+      }
+      if (containsAny(classAnnotations, SETTER_ANNOTATIONS) || fieldAnnotations.contains("Setter")) {
+        addAccessorNames(result, baseNames, "set");
+      }
+      if (containsAny(classAnnotations, WITHER_ANNOTATIONS) || containsAny(fieldAnnotations, WITHER_ANNOTATIONS)) {
+        addAccessorNames(result, baseNames, "with");
+      }
+      if (containsAny(fieldAnnotations, UNPREDICTABLE_ANNOTATIONS)) {
+        result.add(ANY_NAME);
+      }
+    }
+
+    if (containsAny(classAnnotations, TO_STRING_ANNOTATIONS)) {
+      result.add("toString");
+    }
+    if (containsAny(classAnnotations, EQUALS_ANNOTATIONS)) {
+      result.addAll(Arrays.asList("equals", "hashCode", "canEqual"));
+    }
+    if (containsAny(classAnnotations, LOG_ANNOTATIONS)) {
+      // a field name changed by lombok.config is not indexed
+      result.add("log");
+    }
+    if (containsAny(classAnnotations, UNPREDICTABLE_ANNOTATIONS)) {
+      result.add(ANY_NAME);
+    }
+
+    if (classAnnotations.contains("Builder")) {
+      addBuilderNames(findAnnotation(psiClass, "Builder"), className + "Builder", psiFields, result);
+    }
+    if (classAnnotations.contains("SuperBuilder")) {
+      result.addAll(Arrays.asList(className + "Builder", className + "BuilderImpl", "builder", "toBuilder", "build", "self"));
+      for (PsiField psiField : psiFields) {
+        addBuilderFieldNames(psiField.getName(), psiField, result);
+      }
+    }
+
+    for (PsiMethod psiMethod : PsiClassUtil.collectClassMethodsIntern(psiClass)) {
+      final PsiAnnotation builderAnnotation = findAnnotation(psiMethod, "Builder");
+      if (null != builderAnnotation) {
+        final String builderClassName = psiMethod.isConstructor() ? className : getShortTypeName(psiMethod.getReturnTypeElement());
+        addBuilderNames(builderAnnotation, builderClassName + "Builder", Arrays.asList(psiMethod.getParameterList().getParameters()), result);
+      }
+      if (getAnnotationNames(psiMethod).contains("Delegate")) {
+        result.add(ANY_NAME);
+      }
+    }
+
+    for (PsiClass innerClass : PsiClassUtil.collectInnerClassesIntern(psiClass)) {
+      collectGeneratedNames(innerClass, result);
+    }
+  }
+
+  private static void addBuilderNames(@Nullable PsiAnnotation builderAnnotation, @NotNull String defaultBuilderClassName,
+                                      @NotNull Collection<? extends PsiModifierListOwner> builderElements, @NotNull Set<String> result) {
+    addAttributeName(builderAnnotation, "builderClassName", defaultBuilderClassName, result);
+    addAttributeName(builderAnnotation, "builderMethodName", "builder", result);
+    addAttributeName(builderAnnotation, "buildMethodName", "build", result);
+    result.add("toBuilder");
+    for (PsiModifierListOwner builderElement : builderElements) {
+      if (builderElement instanceof PsiField) {
+        addBuilderFieldNames(((PsiField) builderElement).getName(), builderElement, result);
+      } else if (builderElement instanceof PsiParameter) {
+        addBuilderFieldNames(((PsiParameter) builderElement).getName(), builderElement, result);
+      }
+    }
+  }
+
+  private static void addBuilderFieldNames(@Nullable String name, @NotNull PsiModifierListOwner builderElement, @NotNull Set<String> result) {
+    if (null == name) {
+      return;
+    }
+    result.add(name);
+    result.addAll(getBaseNames(name));
+
+    final PsiAnnotation singularAnnotation = findAnnotation(builderElement, "Singular");
+    if (null != singularAnnotation) {
+      result.add("clear" + StringUtil.capitalize(name));
+      final PsiAnnotationMemberValue singularValue = singularAnnotation.findDeclaredAttributeValue("value");
+      if (null == singularValue) {
+        final String singularName = StringUtil.unpluralize(name);
+        result.add(null == singularName ? ANY_NAME : singularName);
+      } else {
+        addLiteral(singularValue, result);
+      }
+    }
+  }
+
+  private static void addAttributeName(@Nullable PsiAnnotation psiAnnotation, @NotNull String attributeName,
+                                       @NotNull String defaultName, @NotNull Set<String> result) {
+    final PsiAnnotationMemberValue attributeValue = null == psiAnnotation ? null : psiAnnotation.findDeclaredAttributeValue(attributeName);
+    if (null == attributeValue) {
+      result.add(defaultName);
+    } else {
+      addLiteral(attributeValue, result);
+    }
+  }
+
+  private static void addLiteral(@NotNull PsiAnnotationMemberValue memberValue, @NotNull Set<String> result) {
+    final Object value = memberValue instanceof PsiLiteralExpression ? ((PsiLiteralExpression) memberValue).getValue() : null;
+    if (value instanceof String && !((String) value).isEmpty()) {
+      result.add((String) value);
+    } else {
+      result.add(ANY_NAME);
+    }
+  }
+
+  private static void addAccessorNames(@NotNull Set<String> result, @NotNull Set<String> baseNames, @NotNull String... prefixes) {
+    for (String baseName : baseNames) {
+      // fluent accessors are named after the field itself
+      result.add(baseName);
+      final String capitalizedName = StringUtil.capitalize(baseName);
+      for (String prefix : prefixes) {
+        result.add(prefix + capitalizedName);
+      }
+    }
+  }
+
+  /**
+   * Field name and every name left after stripping a possible lombok.config accessors prefix from it
+   */
+  @NotNull
+  private static Set<String> getBaseNames(@NotNull String fieldName) {
+    final Set<String> result = new HashSet<>();
+    result.add(fieldName);
+    for (int i = 1; i < fieldName.length(); i++) {
+      final char previousChar = fieldName.charAt(i - 1);
+      final char currentChar = fieldName.charAt(i);
+      if (Character.isUpperCase(currentChar) || !Character.isLetter(previousChar)) {
+        final String strippedName = fieldName.substring(i);
+        if (Character.isLetter(strippedName.charAt(0))) {
+          result.add(StringUtil.decapitalize(strippedName));
+        }
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  private static String getShortTypeName(@Nullable PsiTypeElement typeElement) {
+    final PsiJavaCodeReferenceElement referenceElement = null == typeElement ? null : typeElement.getInnermostComponentReferenceElement();
+    return null == referenceElement ? "" : StringUtil.notNullize(referenceElement.getReferenceName());
+  }
+
+  @Nullable
+  private static PsiAnnotation findAnnotation(@NotNull PsiModifierListOwner modifierListOwner, @NotNull String shortName) {
+    final PsiModifierList modifierList = modifierListOwner.getModifierList();
+    if (null != modifierList) {
+      for (PsiAnnotation psiAnnotation : modifierList.getAnnotations()) {
+        if (shortName.equals(getShortName(psiAnnotation))) {
+          return psiAnnotation;
+        }
+      }
+    }
+    return null;
+  }
+
+  @NotNull
+  private static Set<String> getAnnotationNames(@NotNull PsiModifierListOwner modifierListOwner) {
+    final Set<String> result = new HashSet<>();
+    final PsiModifierList modifierList = modifierListOwner.getModifierList();
+    if (null != modifierList) {
+      for (PsiAnnotation psiAnnotation : modifierList.getAnnotations()) {
+        final String shortName = getShortName(psiAnnotation);
+        if (null != shortName) {
+          result.add(shortName);
+        }
+      }
+    }
+    return result;
+  }
+
+  @Nullable
+  private static String getShortName(@NotNull PsiAnnotation psiAnnotation) {
+    final PsiJavaCodeReferenceElement referenceElement = psiAnnotation.getNameReferenceElement();
+    return null == referenceElement ? null : referenceElement.getReferenceName();
+  }
+
+  private static boolean containsAny(@NotNull Set<String> names, @NotNull Set<String> expectedNames) {
+    for (String expectedName : expectedNames) {
+      if (names.contains(expectedName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,97 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import com.intellij.navigation.ChooseByNameContributorEx;
+import com.intellij.navigation.NavigationItem;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.ArrayUtil;
+import com.intellij.util.CommonProcessors;
+import com.intellij.util.Processor;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FindSymbolParameters;
+import com.intellij.util.indexing.IdFilter;
+import de.plushnikov.intellij.plugin.psi.LombokLightClassBuilder;
+import de.plushnikov.intellij.plugin.psi.LombokLightFieldBuilder;
+import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Offers lombok generated members in "Go to Symbol". Only files listed in {@link LombokGeneratedNameIndex}
+ * for the requested name get augmented.
+ */
+public class LombokGotoSymbolContributor implements ChooseByNameContributorEx {
+
+  @NotNull
+  @Override
+  public String[] getNames(Project project, boolean includeNonProjectItems) {
+    final CommonProcessors.CollectProcessor<String> processor = new CommonProcessors.CollectProcessor<>();
+    processNames(processor, FindSymbolParameters.searchScopeFor(project, includeNonProjectItems), null);
+    return ArrayUtil.toStringArray(processor.getResults());
+  }
+
+  @NotNull
+  @Override
+  public NavigationItem[] getItemsByName(String name, String pattern, Project project, boolean includeNonProjectItems) {
+    final CommonProcessors.CollectProcessor<NavigationItem> processor = new CommonProcessors.CollectProcessor<>();
+    processElementsWithName(name, processor, FindSymbolParameters.wrap(pattern, project, includeNonProjectItems));
+    return processor.toArray(NavigationItem.EMPTY_NAVIGATION_ITEM_ARRAY);
+  }
+
+  @Override
+  public void processNames(@NotNull Processor<String> processor, @NotNull GlobalSearchScope scope, @Nullable IdFilter filter) {
+    FileBasedIndex.getInstance().processAllKeys(LombokGeneratedNameIndex.NAME,
+      name -> LombokGeneratedNameIndex.ANY_NAME.equals(name) || processor.process(name), scope, filter);
+  }
+
+  @Override
+  public void processElementsWithName(@NotNull String name, @NotNull Processor<NavigationItem> processor, @NotNull FindSymbolParameters parameters) {
+    // augmentation queries indexes itself, so files are collected first and processed outside of the index query
+    final Collection<VirtualFile> files = FileBasedIndex.getInstance().getContainingFiles(LombokGeneratedNameIndex.NAME, name,
+      parameters.getSearchScope());
+
+    final PsiManager psiManager = PsiManager.getInstance(parameters.getProject());
+    for (VirtualFile file : files) {
+      ProgressManager.checkCanceled();
+      final PsiFile psiFile = psiManager.findFile(file);
+      if (psiFile instanceof PsiJavaFile) {
+        for (PsiClass psiClass : ((PsiJavaFile) psiFile).getClasses()) {
+          if (!processClass(psiClass, name, processor)) {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean processClass(@NotNull PsiClass psiClass, @NotNull String name, @NotNull Processor<NavigationItem> processor) {
+    for (PsiMethod psiMethod : psiClass.findMethodsByName(name, false)) {
+      if (psiMethod instanceof LombokLightMethodBuilder && !processor.process(psiMethod)) {
+        return false;
+      }
+    }
+    final PsiField psiField = psiClass.findFieldByName(name, false);
+    if (psiField instanceof LombokLightFieldBuilder && !processor.process(psiField)) {
+      return false;
+    }
+    for (PsiClass innerClass : psiClass.getInnerClasses()) {
+      if (innerClass instanceof LombokLightClassBuilder && name.equals(innerClass.getName()) && !processor.process(innerClass)) {
+        return false;
+      }
+      if (!processClass(innerClass, name, processor)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -39,7 +39,7 @@ public class LombokReferenceSearcher extends QueryExecutorBase<PsiReference, Ref
 
   private void processPsiField(final PsiField refPsiField, final SearchRequestCollector collector) {
     final PsiClass containingClass = refPsiField.getContainingClass();
-    if (null != containingClass) {
+    if (null != containingClass && mayGenerateAccessors(refPsiField, containingClass)) {
       processClassMethods(refPsiField, collector, containingClass);
 
       final PsiClass[] innerClasses = containingClass.getInnerClasses();
@@ -51,6 +51,13 @@ public class LombokReferenceSearcher extends QueryExecutorBase<PsiReference, Ref
     }
   }
 
+  /**
+   * Asks the index first, so classes without any lombok accessor for the field don't get augmented at all
+   */
+  private boolean mayGenerateAccessors(PsiField refPsiField, PsiClass containingClass) {
+    return LombokGeneratedNameIndex.mayGenerateAny(containingClass, LombokGeneratedNameIndex.getAccessorNames(refPsiField.getName()));
+  }
+
   private void processClassMethods(PsiField refPsiField, SearchRequestCollector collector, PsiClass containingClass) {
     Arrays.stream(containingClass.getMethods())
       .filter(LombokLightMethodBuilder.class::isInstance)
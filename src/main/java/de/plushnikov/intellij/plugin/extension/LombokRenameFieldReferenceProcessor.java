@@ -14,6 +14,7 @@ import de.plushnikov.intellij.plugin.psi.LombokLightClassBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightFieldBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import lombok.Builder;
 import lombok.Singular;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 
 public class LombokRenameFieldReferenceProcessor extends RenameJavaVariableProcessor {
+  private static final AnnotationMatcher BUILDER_ANNOTATIONS = AnnotationMatcher.of(Builder.class, lombok.experimental.SuperBuilder.class);
 
   @Override
   public boolean canProcessElement(@NotNull PsiElement element) {
@@ -68,7 +70,7 @@ public class LombokRenameFieldReferenceProcessor extends RenameJavaVariableProce
         }
       }
 
-      final PsiAnnotation builderAnnotation = PsiAnnotationSearchUtil.findAnnotation(containingClass, Builder.class, lombok.experimental.SuperBuilder.class);
+      final PsiAnnotation builderAnnotation = PsiAnnotationSearchUtil.findAnnotation(containingClass, BUILDER_ANNOTATIONS);
       if (null != builderAnnotation) {
         final PsiAnnotation singularAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiField, Singular.class);
         final BuilderElementHandler handler = SingularHandlerFactory.getHandlerFor(psiField, singularAnnotation);
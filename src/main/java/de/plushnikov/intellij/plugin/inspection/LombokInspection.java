@@ -6,6 +6,7 @@ import com.intellij.codeInspection.ProblemHighlightType;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.components.ServiceManager;
 import com.intellij.psi.*;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.processor.Processor;
 import de.plushnikov.intellij.plugin.processor.ValProcessor;
@@ -86,7 +87,9 @@ public class LombokInspection extends AbstractBaseJavaLocalInspectionTool {
 
       final LombokProcessorProvider processorProvider = LombokProcessorProvider.getInstance(annotation.getProject());
       for (Processor inspector : processorProvider.getProcessors(annotation)) {
+        final long startNanos = LombokMetrics.startTiming();
         problems.addAll(inspector.verifyAnnotation(annotation));
+        LombokMetrics.stopTiming(LombokMetrics.INSPECTION, inspector.getClass(), startNanos);
       }
 
       for (LombokProblem problem : problems) {
@@ -0,0 +1,85 @@
+package de.plushnikov.intellij.plugin.language.psi;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.Language;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IReparseableElementType;
+import de.plushnikov.intellij.plugin.language.LombokConfigLanguage;
+import de.plushnikov.intellij.plugin.language.LombokConfigLexerAdapter;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Element type of a property line. Editing a property reparses only the property itself, as long as the new text is
+ * still one complete property, instead of the whole file.
+ */
+public class LombokConfigPropertyElementType extends IReparseableElementType {
+  public LombokConfigPropertyElementType(@NotNull @NonNls String debugName) {
+    super(debugName, LombokConfigLanguage.INSTANCE);
+  }
+
+  @Override
+  public boolean isParsable(@NotNull CharSequence buffer, @NotNull Language fileLanguage, @NotNull Project project) {
+    return isProperty(buffer);
+  }
+
+  /**
+   * Chameleon replacing the edited property, without it the whole file is reparsed
+   */
+  @Override
+  public ASTNode createNode(CharSequence text) {
+    return new LazyParseableElement(this, text);
+  }
+
+  /**
+   * Parses the contents of one property like the generated parser does, the text was checked by {@link #isProperty}
+   */
+  @Override
+  protected ASTNode doParseContents(@NotNull ASTNode chameleon, @NotNull PsiElement psi) {
+    final PsiBuilder builder = PsiBuilderFactory.getInstance().createBuilder(psi.getProject(), chameleon,
+      new LombokConfigLexerAdapter(), getLanguage(), chameleon.getChars());
+
+    final PsiBuilder.Marker root = builder.mark();
+    builder.advanceLexer();
+    final PsiBuilder.Marker operation = builder.mark();
+    if (builder.getTokenType() == LombokConfigTypes.SIGN) {
+      builder.advanceLexer();
+    }
+    builder.advanceLexer();
+    operation.done(LombokConfigTypes.OPERATION);
+    while (!builder.eof()) {
+      builder.advanceLexer();
+    }
+    root.done(this);
+    return builder.getTreeBuilt().getFirstChildNode();
+  }
+
+  /**
+   * @return true if the text lexes exactly to KEY, optional SIGN, SEPARATOR and VALUE
+   */
+  static boolean isProperty(@NotNull CharSequence buffer) {
+    final Lexer lexer = new LombokConfigLexerAdapter();
+    lexer.start(buffer);
+    if (!skipToken(lexer, LombokConfigTypes.KEY)) {
+      return false;
+    }
+    skipToken(lexer, LombokConfigTypes.SIGN);
+    return skipToken(lexer, LombokConfigTypes.SEPARATOR)
+      && skipToken(lexer, LombokConfigTypes.VALUE)
+      && null == lexer.getTokenType();
+  }
+
+  private static boolean skipToken(@NotNull Lexer lexer, @NotNull IElementType tokenType) {
+    if (lexer.getTokenType() == tokenType) {
+      lexer.advance();
+      return true;
+    }
+    return false;
+  }
+}
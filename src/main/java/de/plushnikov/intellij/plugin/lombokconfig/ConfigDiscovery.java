@@ -1,25 +1,33 @@
 package de.plushnikov.intellij.plugin.lombokconfig;
 
 import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.util.PathUtil;
 import com.intellij.util.indexing.FileBasedIndex;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
 import de.plushnikov.intellij.plugin.psi.LombokLightClassBuilder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConfigDiscovery {
+  private static final Key<CachedValue<Map<String, ResolvedConfig>>> RESOLVED_CONFIG_KEY = Key.create("lombok.resolvedConfig");
+  private static final Key<CachedValue<Map<VirtualFile, ResolvedConfig>>> RESOLVED_DIRECTORY_CONFIG_KEY = Key.create("lombok.resolvedDirectoryConfig");
+
   private final FileBasedIndex fileBasedIndex;
 
   public static ConfigDiscovery getInstance() {
@@ -32,49 +40,57 @@ public class ConfigDiscovery {
 
   @NotNull
   public String getStringLombokConfigProperty(@NotNull ConfigKey configKey, @NotNull PsiClass psiClass) {
-    final String canonicalPath = calculateCanonicalPath(psiClass);
-    if (null != canonicalPath) {
-      return discoverProperty(configKey, canonicalPath, psiClass.getProject());
-    } else {
-      return configKey.getConfigDefaultValue();
-    }
+    return getResolvedConfig(psiClass).getValue(configKey);
   }
 
   public boolean getBooleanLombokConfigProperty(@NotNull ConfigKey configKey, @NotNull PsiClass psiClass) {
-    final String configProperty = getStringLombokConfigProperty(configKey, psiClass);
-    return Boolean.parseBoolean(configProperty);
+    return getResolvedConfig(psiClass).getBooleanValue(configKey);
   }
 
   @NotNull
   public String[] getMultipleValueLombokConfigProperty(@NotNull ConfigKey configKey, @NotNull PsiClass psiClass) {
-    final Collection<String> result = new HashSet<>();
-
-    final String canonicalPath = calculateCanonicalPath(psiClass);
-    if (null != canonicalPath) {
-      final List<String> properties = discoverProperties(configKey, canonicalPath, psiClass.getProject());
-      Collections.reverse(properties);
-
-      for (String configProperty : properties) {
-        if (StringUtil.isNotEmpty(configProperty)) {
-          final String[] values = configProperty.split(";");
-          for (String value : values) {
-            if (value.startsWith("+")) {
-              result.add(value.substring(1));
-            } else if (value.startsWith("-")) {
-              result.remove(value.substring(1));
-            }
-          }
-        }
+    return getResolvedConfig(psiClass).getMultipleValues(configKey);
+  }
+
+  /**
+   * @return fingerprint of the whole lombok configuration effective for the class
+   */
+  @NotNull
+  public String getConfigFingerprint(@NotNull PsiClass psiClass) {
+    return getResolvedConfig(psiClass).getFingerprint();
+  }
+
+  /**
+   * Looks up the configuration effective for the class once, use it to read several keys.
+   *
+   * @return immutable configuration with values of all keys, default values if the class has no directory
+   */
+  @NotNull
+  public ResolvedConfig getResolvedConfig(@NotNull PsiClass psiClass) {
+    final VirtualFile directory = findDirectory(psiClass);
+    if (null == directory) {
+      return ResolvedConfig.EMPTY;
+    }
+
+    final Project project = psiClass.getProject();
+    final Map<VirtualFile, ResolvedConfig> directoryConfigCache = getDirectoryConfigCache(project);
+    ResolvedConfig result = directoryConfigCache.get(directory);
+    if (null == result) {
+      // canonical path resolves symlinks, so it is computed only once per directory
+      final String canonicalPath = PathUtil.toSystemIndependentName(directory.getCanonicalPath());
+      if (null != canonicalPath) {
+        result = getResolvedConfig(canonicalPath, project);
       }
-    } else {
-      result.add(configKey.getConfigDefaultValue());
+      if (null == result) {
+        return ResolvedConfig.EMPTY;
+      }
+      directoryConfigCache.put(directory, result);
     }
-    return result.toArray(new String[0]);
+    return result;
   }
 
   @Nullable
-  private String calculateCanonicalPath(@NotNull PsiClass psiClass) {
-    String canonicalPath = null;
+  private VirtualFile findDirectory(@NotNull PsiClass psiClass) {
     final PsiFile psiFile;
     if (psiClass instanceof LombokLightClassBuilder) {
       // Use containing class for all LombokLightClasses
@@ -88,49 +104,89 @@ public class ConfigDiscovery {
       psiFile = psiClass.getContainingFile();
     }
 
+    VirtualFile directory = null;
     if (null != psiFile) {
-      canonicalPath = getDirectoryCanonicalPath(psiFile);
-      if (null == canonicalPath) {
-        canonicalPath = getDirectoryCanonicalPath(psiFile.getOriginalFile());
+      directory = getDirectory(psiFile);
+      if (null == directory) {
+        directory = getDirectory(psiFile.getOriginalFile());
       }
     }
-    return PathUtil.toSystemIndependentName(canonicalPath);
+    return directory;
   }
 
   @Nullable
-  private String getDirectoryCanonicalPath(@NotNull PsiFile psiFile) {
+  private VirtualFile getDirectory(@NotNull PsiFile psiFile) {
     final VirtualFile virtualFile = psiFile.getVirtualFile();
     if (null != virtualFile) {
-      final VirtualFile fileDirectory = virtualFile.getParent();
-      if (null != fileDirectory) {
-        return fileDirectory.getCanonicalPath();
-      }
+      return virtualFile.getParent();
     }
     return null;
   }
 
-  @NotNull
-  private String discoverProperty(@NotNull ConfigKey configKey, @NotNull String canonicalPath, @NotNull Project project) {
-    final GlobalSearchScope searchScope = GlobalSearchScope.projectScope(project);
-
-    String currentPath = canonicalPath;
-    while (null != currentPath) {
-
-      final ConfigValue configValue = readProperty(fileBasedIndex, searchScope, currentPath, configKey);
-      if (null != configValue) {
-        if (null == configValue.getValue()) {
-          if (configValue.isStopBubbling()) {
-            break;
-          }
-        } else {
-          return configValue.getValue();
+  /**
+   * Resolved configuration of the directory, cached together with all its parents until the next
+   * change of any lombok.config file, see {@link LombokConfigChangeTracker}.
+   * In dumb mode the index is not available, so configuration not cached yet can't be resolved.
+   *
+   * @return resolved configuration, null if it isn't cached yet and the index is not available
+   */
+  @Nullable
+  private ResolvedConfig getResolvedConfig(@NotNull String directoryPath, @NotNull Project project) {
+    final Map<String, ResolvedConfig> configCache = getConfigCache(project);
+
+    LombokMetrics.recordCacheRequest(LombokMetrics.CONFIG_CACHE);
+    ResolvedConfig result = configCache.get(directoryPath);
+    if (null == result) {
+      if (isDumb(project)) {
+        return null;
+      }
+      LombokMetrics.recordCacheMiss(LombokMetrics.CONFIG_CACHE);
+      final GlobalSearchScope searchScope = GlobalSearchScope.projectScope(project);
+
+      final long startNanos = LombokMetrics.startTiming();
+      final Map<ConfigKey, String> directoryValues = readDirectoryValues(searchScope, directoryPath);
+      LombokMetrics.stopTiming(LombokMetrics.CONFIG, "index read", startNanos);
+      final boolean stopBubbling = Boolean.parseBoolean(directoryValues.get(ConfigKey.CONFIG_STOP_BUBBLING));
+
+      final String parentPath = bubbleUp(directoryPath);
+      final ResolvedConfig parentConfig;
+      if (stopBubbling || null == parentPath) {
+        parentConfig = ResolvedConfig.EMPTY;
+      } else {
+        parentConfig = getResolvedConfig(parentPath, project);
+        if (null == parentConfig) {
+          return null;
         }
       }
 
-      currentPath = bubbleUp(currentPath);
+      result = ResolvedConfig.merge(parentConfig, directoryValues);
+      configCache.put(directoryPath, result);
     }
+    return result;
+  }
+
+  @NotNull
+  Map<String, ResolvedConfig> getConfigCache(@NotNull Project project) {
+    return CachedValuesManager.getManager(project).getCachedValue(project, RESOLVED_CONFIG_KEY,
+      () -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(), LombokConfigChangeTracker.getInstance(project),
+        ProjectRootManager.getInstance(project)), false);
+  }
 
-    return configKey.getConfigDefaultValue();
+  /**
+   * Resolved configuration by source directory. Moving or renaming a directory changes its canonical path,
+   * so the cache depends on the directory tracker of the {@link LombokConfigChangeTracker} as well.
+   */
+  @NotNull
+  Map<VirtualFile, ResolvedConfig> getDirectoryConfigCache(@NotNull Project project) {
+    return CachedValuesManager.getManager(project).getCachedValue(project, RESOLVED_DIRECTORY_CONFIG_KEY, () -> {
+      final LombokConfigChangeTracker configChangeTracker = LombokConfigChangeTracker.getInstance(project);
+      return CachedValueProvider.Result.create(new ConcurrentHashMap<>(), configChangeTracker, configChangeTracker.getDirectoryTracker(),
+        ProjectRootManager.getInstance(project));
+    }, false);
+  }
+
+  boolean isDumb(@NotNull Project project) {
+    return DumbService.isDumb(project);
   }
 
   @Nullable
@@ -144,39 +200,15 @@ public class ConfigDiscovery {
     return currentPath;
   }
 
-  @Nullable
-  private ConfigValue readProperty(FileBasedIndex fileBasedIndex, GlobalSearchScope searchScope, String directoryName, ConfigKey configKey) {
-    final ConfigIndexKey configIndexKey = new ConfigIndexKey(directoryName, configKey.getConfigKey());
-    final List<ConfigValue> values = fileBasedIndex.getValues(LombokConfigIndex.NAME, configIndexKey, searchScope);
+  /**
+   * Reads all values set by the lombok.config of the directory with one index query
+   */
+  @NotNull
+  private Map<ConfigKey, String> readDirectoryValues(@NotNull GlobalSearchScope searchScope, @NotNull String directoryName) {
+    final List<Map<ConfigKey, String>> values = fileBasedIndex.getValues(LombokConfigIndex.NAME, directoryName, searchScope);
     if (!values.isEmpty()) {
       return values.iterator().next();
     }
-    return null;
-  }
-
-  @NotNull
-  private List<String> discoverProperties(@NotNull ConfigKey configKey, @NotNull String canonicalPath, @NotNull Project project) {
-    List<String> result = new ArrayList<>();
-
-    final GlobalSearchScope searchScope = GlobalSearchScope.projectScope(project);
-
-    String currentPath = canonicalPath;
-    while (null != currentPath) {
-
-      final ConfigValue configValue = readProperty(fileBasedIndex, searchScope, currentPath, configKey);
-      if (null != configValue) {
-        if (null == configValue.getValue()) {
-          if (configValue.isStopBubbling()) {
-            break;
-          }
-        } else {
-          result.add(configValue.getValue());
-        }
-      }
-
-      currentPath = bubbleUp(currentPath);
-    }
-
-    return result;
+    return Collections.emptyMap();
   }
 }
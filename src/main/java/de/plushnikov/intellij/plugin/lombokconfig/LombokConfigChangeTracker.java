@@ -0,0 +1,159 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.fileTypes.FileTypeRegistry;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VFileProperty;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.NewVirtualFile;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.util.PathUtil;
+import de.plushnikov.intellij.plugin.language.LombokConfigFileType;
+import de.plushnikov.intellij.plugin.language.psi.LombokConfigFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Modification tracker of the project, incremented only when a lombok.config file is created, changed, moved or deleted
+ * (also by moving, renaming or deleting one of its directories). Caches depending on lombok configuration
+ * should depend on it instead of PSI modification counts.
+ */
+public class LombokConfigChangeTracker extends SimpleModificationTracker {
+  private final SimpleModificationTracker directoryTracker = new SimpleModificationTracker();
+  private boolean directoryChanging;
+  private boolean configDirectoryChanging;
+
+  @NotNull
+  public static LombokConfigChangeTracker getInstance(@NotNull Project project) {
+    return ServiceManager.getService(project, LombokConfigChangeTracker.class);
+  }
+
+  public LombokConfigChangeTracker(@NotNull Project project) {
+    project.getMessageBus().connect(project).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+      @Override
+      public void before(@NotNull List<? extends VFileEvent> events) {
+        // directories are checked while still at their old location
+        directoryChanging = events.stream().anyMatch(LombokConfigChangeTracker::isDirectoryEvent);
+        configDirectoryChanging = directoryChanging && containsConfigDirectoryEvent(events);
+      }
+
+      @Override
+      public void after(@NotNull List<? extends VFileEvent> events) {
+        if (directoryChanging) {
+          directoryTracker.incModificationCount();
+        }
+        if (configDirectoryChanging || events.stream().anyMatch(LombokConfigChangeTracker::isConfigFileEvent)) {
+          incModificationCount();
+        }
+        directoryChanging = false;
+        configDirectoryChanging = false;
+      }
+    });
+
+    // unsaved editor changes are already seen by the index, but reach the file system only on save
+    PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+      @Override
+      public void childAdded(@NotNull PsiTreeChangeEvent event) {
+        onPsiChange(event);
+      }
+
+      @Override
+      public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+        onPsiChange(event);
+      }
+
+      @Override
+      public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+        onPsiChange(event);
+      }
+
+      @Override
+      public void childMoved(@NotNull PsiTreeChangeEvent event) {
+        onPsiChange(event);
+      }
+
+      @Override
+      public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+        onPsiChange(event);
+      }
+    }, project);
+  }
+
+  /**
+   * @return tracker incremented on every move, rename or deletion of a directory, with or without lombok.config below it
+   */
+  @NotNull
+  public ModificationTracker getDirectoryTracker() {
+    return directoryTracker;
+  }
+
+  private void onPsiChange(@NotNull PsiTreeChangeEvent event) {
+    if (event.getFile() instanceof LombokConfigFile) {
+      incModificationCount();
+    }
+  }
+
+  private static boolean isConfigFileEvent(@NotNull VFileEvent event) {
+    if (isConfigFileName(PathUtil.getFileName(event.getPath()))) {
+      return true;
+    }
+    if (event instanceof VFilePropertyChangeEvent) {
+      final VFilePropertyChangeEvent propertyChangeEvent = (VFilePropertyChangeEvent) event;
+      return propertyChangeEvent.isRename() && isConfigFileName(String.valueOf(propertyChangeEvent.getOldValue()));
+    }
+    return false;
+  }
+
+  /**
+   * Configuration is indexed by directory path, so moving, renaming or deleting a directory changes the configuration
+   * of all lombok.config files below it. Directories without any lombok.config are ignored.
+   */
+  private static boolean containsConfigDirectoryEvent(@NotNull List<? extends VFileEvent> events) {
+    for (VFileEvent event : events) {
+      if (isDirectoryEvent(event) && containsConfigFile(event.getFile())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Looks only at children already loaded into the VFS, this runs inside the write action. Indexed lombok.config files
+   * are always loaded.
+   */
+  private static boolean containsConfigFile(@NotNull VirtualFile directory) {
+    final Collection<VirtualFile> children = directory instanceof NewVirtualFile
+      ? ((NewVirtualFile) directory).getCachedChildren() : Arrays.asList(directory.getChildren());
+    for (VirtualFile child : children) {
+      if (child.isDirectory()) {
+        if (!child.is(VFileProperty.SYMLINK) && containsConfigFile(child)) {
+          return true;
+        }
+      } else if (isConfigFileName(child.getName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isDirectoryEvent(@NotNull VFileEvent event) {
+    final VirtualFile file = event.getFile();
+    return !(event instanceof VFileCreateEvent) && null != file && file.isValid() && file.isDirectory();
+  }
+
+  private static boolean isConfigFileName(@NotNull String fileName) {
+    return FileTypeRegistry.getInstance().getFileTypeByFileName(fileName) == LombokConfigFileType.INSTANCE;
+  }
+}
@@ -10,6 +10,9 @@ import com.intellij.util.indexing.FileBasedIndexExtension;
 import com.intellij.util.indexing.FileContent;
 import com.intellij.util.indexing.ID;
 import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
 import com.intellij.util.io.KeyDescriptor;
 import de.plushnikov.intellij.plugin.language.LombokConfigFileType;
 import de.plushnikov.intellij.plugin.language.psi.LombokConfigCleaner;
@@ -23,52 +26,47 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-public class LombokConfigIndex extends FileBasedIndexExtension<ConfigIndexKey, ConfigValue> {
+/**
+ * Indexes one record per lombok.config file: the canonical path of its directory mapped to the values of all keys
+ * set in the file. Keys are stored by {@link ConfigKey} ordinal, so reordering ConfigKey requires a version bump.
+ */
+public class LombokConfigIndex extends FileBasedIndexExtension<String, Map<ConfigKey, String>> {
   @NonNls
-  public static final ID<ConfigIndexKey, ConfigValue> NAME = ID.create("LombokConfigIndex");
+  public static final ID<String, Map<ConfigKey, String>> NAME = ID.create("LombokConfigIndex");
 
-  private static final int INDEX_FORMAT_VERSION = 10;
+  private static final int INDEX_FORMAT_VERSION = 11;
 
   @NotNull
   @Override
-  public ID<ConfigIndexKey, ConfigValue> getName() {
+  public ID<String, Map<ConfigKey, String>> getName() {
     return NAME;
   }
 
   @NotNull
   @Override
-  public DataIndexer<ConfigIndexKey, ConfigValue, FileContent> getIndexer() {
-    return new DataIndexer<ConfigIndexKey, ConfigValue, FileContent>() {
+  public DataIndexer<String, Map<ConfigKey, String>, FileContent> getIndexer() {
+    return new DataIndexer<String, Map<ConfigKey, String>, FileContent>() {
       @NotNull
       @Override
-      public Map<ConfigIndexKey, ConfigValue> map(@NotNull FileContent inputData) {
-        Map<ConfigIndexKey, ConfigValue> result = Collections.emptyMap();
+      public Map<String, Map<ConfigKey, String>> map(@NotNull FileContent inputData) {
+        Map<String, Map<ConfigKey, String>> result = Collections.emptyMap();
 
         final VirtualFile directoryFile = inputData.getFile().getParent();
         if (null != directoryFile) {
           final String canonicalPath = PathUtil.toSystemIndependentName(directoryFile.getCanonicalPath());
           if (null != canonicalPath) {
-            final Map<String, String> configValues = extractValues((LombokConfigFile) inputData.getPsiFile());
-
-            final boolean stopBubblingValue = Boolean.parseBoolean(configValues.get(ConfigKey.CONFIG_STOP_BUBBLING.getConfigKey()));
-            result = Stream.of(ConfigKey.values())
-              .map(ConfigKey::getConfigKey)
-              .collect(Collectors.toMap(
-                key -> new ConfigIndexKey(canonicalPath, key),
-                key -> new ConfigValue(configValues.get(key), stopBubblingValue)));
+            result = Collections.singletonMap(canonicalPath, extractValues((LombokConfigFile) inputData.getPsiFile()));
           }
         }
 
         return result;
       }
 
-      private Map<String, String> extractValues(LombokConfigFile configFile) {
-        Map<String, String> result = new HashMap<>();
+      private Map<ConfigKey, String> extractValues(LombokConfigFile configFile) {
+        Map<ConfigKey, String> result = new EnumMap<>(ConfigKey.class);
 
         final LombokConfigCleaner[] configCleaners = LombokConfigUtil.getLombokConfigCleaners(configFile);
         for (LombokConfigCleaner configCleaner : configCleaners) {
@@ -76,21 +74,25 @@ public class LombokConfigIndex extends FileBasedIndexExtension<ConfigIndexKey, C
 
           final ConfigKey configKey = ConfigKey.fromConfigStringKey(key);
           if (null != configKey) {
-            result.put(key, configKey.getConfigDefaultValue());
+            result.put(configKey, configKey.getConfigDefaultValue());
           }
         }
 
         final LombokConfigProperty[] configProperties = LombokConfigUtil.getLombokConfigProperties(configFile);
         for (LombokConfigProperty configProperty : configProperties) {
           final String key = StringUtil.toLowerCase(LombokConfigPsiUtil.getKey(configProperty));
-          final String value = LombokConfigPsiUtil.getValue(configProperty);
-          final String sign = LombokConfigPsiUtil.getSign(configProperty);
-          if (null == sign) {
-            result.put(key, value);
-          } else {
-            final String previousValue = StringUtil.defaultIfEmpty(result.get(key), "");
-            final String combinedValue = previousValue + sign + value + ";";
-            result.put(key, combinedValue);
+
+          final ConfigKey configKey = ConfigKey.fromConfigStringKey(key);
+          if (null != configKey) {
+            final String value = LombokConfigPsiUtil.getValue(configProperty);
+            final String sign = LombokConfigPsiUtil.getSign(configProperty);
+            if (null == sign) {
+              result.put(configKey, value);
+            } else {
+              final String previousValue = StringUtil.defaultIfEmpty(result.get(configKey), "");
+              final String combinedValue = previousValue + sign + value + ";";
+              result.put(configKey, combinedValue);
+            }
           }
         }
 
@@ -101,49 +103,37 @@ public class LombokConfigIndex extends FileBasedIndexExtension<ConfigIndexKey, C
 
   @NotNull
   @Override
-  public KeyDescriptor<ConfigIndexKey> getKeyDescriptor() {
-    return new KeyDescriptor<ConfigIndexKey>() {
-      @Override
-      public int getHashCode(ConfigIndexKey configKey) {
-        return configKey.hashCode();
-      }
-
-      @Override
-      public boolean isEqual(ConfigIndexKey val1, ConfigIndexKey val2) {
-        return val1.equals(val2);
-      }
-
-      @Override
-      public void save(@NotNull DataOutput out, ConfigIndexKey value) throws IOException {
-        out.writeUTF(StringUtil.notNullize(value.getDirectoryName()));
-        out.writeUTF(StringUtil.notNullize(value.getConfigKey()));
-      }
-
-      @Override
-      public ConfigIndexKey read(@NotNull DataInput in) throws IOException {
-        return new ConfigIndexKey(in.readUTF(), in.readUTF());
-      }
-    };
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
   }
 
   @NotNull
   @Override
-  public DataExternalizer<ConfigValue> getValueExternalizer() {
-    return new DataExternalizer<ConfigValue>() {
+  public DataExternalizer<Map<ConfigKey, String>> getValueExternalizer() {
+    return new DataExternalizer<Map<ConfigKey, String>>() {
+      private final ConfigKey[] configKeys = ConfigKey.values();
+
       @Override
-      public void save(@NotNull DataOutput out, ConfigValue configValue) throws IOException {
-        final boolean hasNullValue = null == configValue.getValue();
-        out.writeBoolean(hasNullValue);
-        out.writeUTF(hasNullValue ? "" : configValue.getValue());
-        out.writeBoolean(configValue.isStopBubbling());
+      public void save(@NotNull DataOutput out, Map<ConfigKey, String> configValues) throws IOException {
+        DataInputOutputUtil.writeINT(out, configValues.size());
+        for (Map.Entry<ConfigKey, String> entry : configValues.entrySet()) {
+          DataInputOutputUtil.writeINT(out, entry.getKey().ordinal());
+          IOUtil.writeUTF(out, StringUtil.notNullize(entry.getValue()));
+        }
       }
 
       @Override
-      public ConfigValue read(@NotNull DataInput in) throws IOException {
-        final boolean hasNullValue = in.readBoolean();
-        final String configValue = in.readUTF();
-        final boolean stopBubbling = in.readBoolean();
-        return new ConfigValue(hasNullValue ? null : configValue, stopBubbling);
+      public Map<ConfigKey, String> read(@NotNull DataInput in) throws IOException {
+        final Map<ConfigKey, String> result = new EnumMap<>(ConfigKey.class);
+        final int size = DataInputOutputUtil.readINT(in);
+        for (int i = 0; i < size; i++) {
+          final int ordinal = DataInputOutputUtil.readINT(in);
+          final String value = IOUtil.readUTF(in);
+          if (ordinal < configKeys.length) {
+            result.put(configKeys[ordinal], value);
+          }
+        }
+        return result;
       }
     };
   }
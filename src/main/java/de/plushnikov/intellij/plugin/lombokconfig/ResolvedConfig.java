@@ -0,0 +1,98 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.util.ArrayUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Effective lombok configuration of one directory: the lombok.config of the directory merged over the resolved
+ * configuration of its parent directory, unless the directory stops bubbling. Immutable, every lookup is a map access.
+ */
+public class ResolvedConfig {
+  static final ResolvedConfig EMPTY = new ResolvedConfig(new EnumMap<>(ConfigKey.class), new EnumMap<>(ConfigKey.class));
+
+  private final EnumMap<ConfigKey, String> values;
+  private final EnumMap<ConfigKey, String[]> multipleValues;
+
+  private ResolvedConfig(@NotNull EnumMap<ConfigKey, String> values, @NotNull EnumMap<ConfigKey, String[]> multipleValues) {
+    this.values = values;
+    this.multipleValues = multipleValues;
+  }
+
+  @NotNull
+  public String getValue(@NotNull ConfigKey configKey) {
+    final String value = values.get(configKey);
+    return null == value ? configKey.getConfigDefaultValue() : value;
+  }
+
+  public boolean getBooleanValue(@NotNull ConfigKey configKey) {
+    return Boolean.parseBoolean(getValue(configKey));
+  }
+
+  @NotNull
+  public String[] getMultipleValues(@NotNull ConfigKey configKey) {
+    final String[] result = multipleValues.get(configKey);
+    return null == result ? ArrayUtil.EMPTY_STRING_ARRAY : result.clone();
+  }
+
+  /**
+   * @return text identifying all set values, equal for equal configurations
+   */
+  @NotNull
+  public String getFingerprint() {
+    final StringBuilder builder = new StringBuilder();
+    for (Map.Entry<ConfigKey, String> entry : values.entrySet()) {
+      builder.append(entry.getKey().ordinal()).append('=').append(entry.getValue()).append('\n');
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Merges the values of one lombok.config over the resolved configuration of the parent directory
+   *
+   * @param parentConfig     resolved configuration of the parent directory, {@link #EMPTY} if bubbling stops here
+   * @param directoryValues  values of all keys set in the lombok.config of the directory
+   * @return resolved configuration of the directory
+   */
+  @NotNull
+  static ResolvedConfig merge(@NotNull ResolvedConfig parentConfig, @NotNull Map<ConfigKey, String> directoryValues) {
+    if (directoryValues.isEmpty()) {
+      return parentConfig;
+    }
+
+    final EnumMap<ConfigKey, String> values = new EnumMap<>(parentConfig.values);
+    final EnumMap<ConfigKey, String[]> multipleValues = new EnumMap<>(parentConfig.multipleValues);
+    for (Map.Entry<ConfigKey, String> entry : directoryValues.entrySet()) {
+      final ConfigKey configKey = entry.getKey();
+      values.put(configKey, entry.getValue());
+      multipleValues.put(configKey, applyModifications(parentConfig.multipleValues.get(configKey), entry.getValue()));
+    }
+    return new ResolvedConfig(values, multipleValues);
+  }
+
+  @NotNull
+  private static String[] applyModifications(@Nullable String[] parentValues, @NotNull String configProperty) {
+    final Collection<String> result = new LinkedHashSet<>();
+    if (null != parentValues) {
+      Collections.addAll(result, parentValues);
+    }
+
+    if (StringUtil.isNotEmpty(configProperty)) {
+      for (String value : configProperty.split(";")) {
+        if (value.startsWith("+")) {
+          result.add(value.substring(1));
+        } else if (value.startsWith("-")) {
+          result.remove(value.substring(1));
+        }
+      }
+    }
+    return ArrayUtil.toStringArray(result);
+  }
+}
@@ -0,0 +1,229 @@
+package de.plushnikov.intellij.plugin.metrics;
+
+import com.intellij.openapi.util.text.StringUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Opt-in collector of invocation counts, latencies and cache hit rates of lombok processing.
+ * Disabled by default, can be enabled with the system property 'lombok.metrics=true' or by an internal action.
+ * While disabled every measuring point costs only one volatile read.
+ */
+public final class LombokMetrics {
+  public static final String ENABLED_PROPERTY = "lombok.metrics";
+
+  public static final String PROCESSOR = "processor";
+  public static final String ANNOTATION = "annotation";
+  public static final String INSPECTION = "inspection";
+  public static final String CONFIG = "config";
+
+  public static final String AUGMENT_CACHE = "augment snapshot";
+  public static final String CONFIG_CACHE = "lombok.config";
+  public static final String SIGNATURE_CACHE = "persistent signatures";
+
+  private static final long NOT_STARTED = Long.MIN_VALUE;
+
+  private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  private static final ConcurrentMap<String, Timing> timings = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, CacheStatistic> caches = new ConcurrentHashMap<>();
+
+  private LombokMetrics() {
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setEnabled(boolean value) {
+    enabled = value;
+  }
+
+  public static void reset() {
+    timings.clear();
+    caches.clear();
+  }
+
+  /**
+   * @return start time to pass to {@link #stopTiming(String, Class, long)}, nothing is measured if metrics are disabled
+   */
+  public static long startTiming() {
+    return enabled ? System.nanoTime() : NOT_STARTED;
+  }
+
+  public static void stopTiming(@NotNull String category, @NotNull Class<?> measuredClass, long startNanos) {
+    if (NOT_STARTED != startNanos) {
+      final String name = ANNOTATION.equals(category) ? measuredClass.getName() : measuredClass.getSimpleName();
+      stopTiming(category, name, startNanos);
+    }
+  }
+
+  public static void stopTiming(@NotNull String category, @NotNull String name, long startNanos) {
+    if (NOT_STARTED != startNanos) {
+      timings.computeIfAbsent(category + ':' + name, Timing::new).record(System.nanoTime() - startNanos);
+    }
+  }
+
+  public static void recordCacheRequest(@NotNull String cacheName) {
+    if (enabled) {
+      caches.computeIfAbsent(cacheName, CacheStatistic::new).requests.incrementAndGet();
+    }
+  }
+
+  public static void recordCacheMiss(@NotNull String cacheName) {
+    if (enabled) {
+      caches.computeIfAbsent(cacheName, CacheStatistic::new).misses.incrementAndGet();
+    }
+  }
+
+  @NotNull
+  public static String createReport() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append(String.format("%-60s %10s %12s %10s %10s %10s %10s%n", "Timing", "Count", "Total ms", "Mean us", "P50 us", "P90 us", "P99 us"));
+    for (Timing timing : getSortedTimings()) {
+      final long count = timing.count.get();
+      builder.append(String.format("%-60s %10d %12.1f %10.1f %10.1f %10.1f %10.1f%n", timing.name, count,
+        timing.totalNanos.get() / 1e6, timing.totalNanos.get() / 1e3 / Math.max(1, count),
+        timing.getPercentile(0.5) / 1e3, timing.getPercentile(0.9) / 1e3, timing.getPercentile(0.99) / 1e3));
+    }
+
+    builder.append(String.format("%n%-60s %10s %10s %10s%n", "Cache", "Requests", "Misses", "Hit rate"));
+    for (CacheStatistic cache : getSortedCaches()) {
+      builder.append(String.format("%-60s %10d %10d %9.1f%%%n", cache.name, cache.requests.get(), cache.misses.get(), cache.getHitRate() * 100));
+    }
+    return builder.toString();
+  }
+
+  @NotNull
+  public static String toJson() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append("{\n  \"timings\": [");
+    String separator = "\n";
+    for (Timing timing : getSortedTimings()) {
+      builder.append(separator).append("    {\"name\": \"").append(StringUtil.escapeStringCharacters(timing.name)).append('"')
+        .append(", \"count\": ").append(timing.count.get())
+        .append(", \"totalNanos\": ").append(timing.totalNanos.get())
+        .append(", \"maxNanos\": ").append(timing.maxNanos.get())
+        .append(", \"p50Nanos\": ").append(timing.getPercentile(0.5))
+        .append(", \"p90Nanos\": ").append(timing.getPercentile(0.9))
+        .append(", \"p99Nanos\": ").append(timing.getPercentile(0.99))
+        .append('}');
+      separator = ",\n";
+    }
+    builder.append("\n  ],\n  \"caches\": [");
+    separator = "\n";
+    for (CacheStatistic cache : getSortedCaches()) {
+      builder.append(separator).append("    {\"name\": \"").append(StringUtil.escapeStringCharacters(cache.name)).append('"')
+        .append(", \"requests\": ").append(cache.requests.get())
+        .append(", \"misses\": ").append(cache.misses.get())
+        .append('}');
+      separator = ",\n";
+    }
+    builder.append("\n  ]\n}\n");
+    return builder.toString();
+  }
+
+  @NotNull
+  private static List<Timing> getSortedTimings() {
+    final List<Timing> result = new ArrayList<>(timings.values());
+    result.sort(Comparator.comparingLong((Timing timing) -> timing.totalNanos.get()).reversed());
+    return result;
+  }
+
+  @NotNull
+  private static List<CacheStatistic> getSortedCaches() {
+    final List<CacheStatistic> result = new ArrayList<>(caches.values());
+    result.sort(Comparator.comparing(cache -> cache.name));
+    return result;
+  }
+
+  @NotNull
+  static Map<String, Timing> getTimings() {
+    return timings;
+  }
+
+  @NotNull
+  static Map<String, CacheStatistic> getCaches() {
+    return caches;
+  }
+
+  /**
+   * Latencies of one measuring point, percentiles are approximated by a histogram with power of two buckets
+   */
+  static class Timing {
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    Timing(@NotNull String name) {
+      this.name = name;
+    }
+
+    void record(long nanos) {
+      final long value = Math.max(0, nanos);
+      count.incrementAndGet();
+      totalNanos.addAndGet(value);
+      maxNanos.accumulateAndGet(value, Math::max);
+      histogram.incrementAndGet(Math.max(0, BUCKETS - 1 - Long.numberOfLeadingZeros(value)));
+    }
+
+    long getCount() {
+      return count.get();
+    }
+
+    /**
+     * @return upper bound in nanoseconds of the histogram bucket containing the percentile, limited by the maximum
+     */
+    long getPercentile(double percentile) {
+      final long total = count.get();
+      if (0 == total) {
+        return 0;
+      }
+      final long rank = (long) Math.ceil(percentile * total);
+      long seen = 0;
+      for (int bucket = 0; bucket < BUCKETS; bucket++) {
+        seen += histogram.get(bucket);
+        if (seen >= rank) {
+          final long bucketUpperBound = bucket >= BUCKETS - 2 ? Long.MAX_VALUE : (2L << bucket) - 1;
+          return Math.min(maxNanos.get(), bucketUpperBound);
+        }
+      }
+      return maxNanos.get();
+    }
+  }
+
+  static class CacheStatistic {
+    private final String name;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    CacheStatistic(@NotNull String name) {
+      this.name = name;
+    }
+
+    long getRequests() {
+      return requests.get();
+    }
+
+    long getMisses() {
+      return misses.get();
+    }
+
+    double getHitRate() {
+      final long requestCount = requests.get();
+      return 0 == requestCount ? 0 : Math.max(0, requestCount - misses.get()) / (double) requestCount;
+    }
+  }
+}
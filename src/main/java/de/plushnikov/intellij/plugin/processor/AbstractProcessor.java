@@ -8,6 +8,8 @@ import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiModifierListOwner;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigDiscovery;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKey;
+import de.plushnikov.intellij.plugin.lombokconfig.ResolvedConfig;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
@@ -28,6 +30,10 @@ public abstract class AbstractProcessor implements Processor {
    * Annotation classes this processor supports
    */
   private final Class<? extends Annotation>[] supportedAnnotationClasses;
+  /**
+   * Precompiled matcher of all supported annotation classes
+   */
+  private final AnnotationMatcher supportedAnnotationMatcher;
   /**
    * Kind of output elements this processor supports
    */
@@ -48,6 +54,7 @@ public abstract class AbstractProcessor implements Processor {
     this.configDiscovery = ConfigDiscovery.getInstance();
     this.supportedClass = supportedClass;
     this.supportedAnnotationClasses = new Class[]{supportedAnnotationClass};
+    this.supportedAnnotationMatcher = AnnotationMatcher.of(supportedAnnotationClasses);
   }
 
   /**
@@ -63,6 +70,7 @@ public abstract class AbstractProcessor implements Processor {
     this.configDiscovery = ConfigDiscovery.getInstance();
     this.supportedClass = supportedClass;
     this.supportedAnnotationClasses = new Class[]{supportedAnnotationClass, equivalentAnnotationClass};
+    this.supportedAnnotationMatcher = AnnotationMatcher.of(supportedAnnotationClasses);
   }
 
   /**
@@ -80,6 +88,7 @@ public abstract class AbstractProcessor implements Processor {
     this.configDiscovery = ConfigDiscovery.getInstance();
     this.supportedClass = supportedClass;
     this.supportedAnnotationClasses = new Class[]{supportedAnnotationClass, oneEquivalentAnnotationClass, secondEquivalentAnnotationClass};
+    this.supportedAnnotationMatcher = AnnotationMatcher.of(supportedAnnotationClasses);
   }
 
   @NotNull
@@ -87,6 +96,11 @@ public abstract class AbstractProcessor implements Processor {
     return supportedAnnotationClasses;
   }
 
+  @NotNull
+  public final AnnotationMatcher getSupportedAnnotationMatcher() {
+    return supportedAnnotationMatcher;
+  }
+
   @NotNull
   @Override
   public final Class<? extends PsiElement> getSupportedClass() {
@@ -104,16 +118,10 @@ public abstract class AbstractProcessor implements Processor {
     definedMethods.removeIf(definedMethod -> PsiAnnotationSearchUtil.isAnnotatedWith(definedMethod, Tolerate.class));
   }
 
-  protected boolean readAnnotationOrConfigProperty(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass,
-                                                          @NotNull String annotationParameter, @NotNull ConfigKey configKey) {
-    final boolean result;
+  protected boolean readAnnotationOrConfigProperty(@NotNull PsiAnnotation psiAnnotation, @NotNull ResolvedConfig resolvedConfig,
+                                                   @NotNull String annotationParameter, @NotNull ConfigKey configKey) {
     final Boolean declaredAnnotationValue = PsiAnnotationUtil.getDeclaredBooleanAnnotationValue(psiAnnotation, annotationParameter);
-    if (null == declaredAnnotationValue) {
-      result = configDiscovery.getBooleanLombokConfigProperty(configKey, psiClass);
-    } else {
-      result = declaredAnnotationValue;
-    }
-    return result;
+    return null == declaredAnnotationValue ? resolvedConfig.getBooleanValue(configKey) : declaredAnnotationValue;
   }
 
   protected static void addOnXAnnotations(@Nullable PsiAnnotation processedAnnotation,
@@ -9,6 +9,8 @@ import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.util.PsiTreeUtil;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKey;
+import de.plushnikov.intellij.plugin.lombokconfig.ResolvedConfig;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
 import de.plushnikov.intellij.plugin.problem.LombokProblem;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
@@ -59,12 +61,14 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
   public List<? super PsiElement> process(@NotNull PsiClass psiClass) {
     List<? super PsiElement> result = Collections.emptyList();
 
-    PsiAnnotation psiAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiClass, getSupportedAnnotationClasses());
+    final long startNanos = LombokMetrics.startTiming();
+    PsiAnnotation psiAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiClass, getSupportedAnnotationMatcher());
     if (null != psiAnnotation) {
       if (supportAnnotationVariant(psiAnnotation) && validate(psiAnnotation, psiClass, ProblemEmptyBuilder.getInstance())) {
         result = new ArrayList<>();
         generatePsiElements(psiClass, psiAnnotation, result);
       }
+      LombokMetrics.stopTiming(LombokMetrics.ANNOTATION, getSupportedAnnotationClasses()[0], startNanos);
     }
     return result;
   }
@@ -72,7 +76,7 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
   @NotNull
   public Collection<PsiAnnotation> collectProcessedAnnotations(@NotNull PsiClass psiClass) {
     Collection<PsiAnnotation> result = new ArrayList<>();
-    PsiAnnotation psiAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiClass, getSupportedAnnotationClasses());
+    PsiAnnotation psiAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiClass, getSupportedAnnotationMatcher());
     if (null != psiAnnotation) {
       result.add(psiAnnotation);
     }
@@ -121,7 +125,7 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
 
   @Nullable
   protected PsiAnnotation getSupportedAnnotation(@NotNull PsiClass psiParentClass) {
-    return PsiAnnotationSearchUtil.findAnnotation(psiParentClass, getSupportedAnnotationClasses());
+    return PsiAnnotationSearchUtil.findAnnotation(psiParentClass, getSupportedAnnotationMatcher());
   }
 
   protected abstract boolean validate(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @NotNull ProblemBuilder builder);
@@ -186,12 +190,12 @@ public abstract class AbstractClassProcessor extends AbstractProcessor implement
     return result;
   }
 
-  protected boolean readCallSuperAnnotationOrConfigProperty(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass, @NotNull ConfigKey configKey) {
+  protected boolean readCallSuperAnnotationOrConfigProperty(@NotNull PsiAnnotation psiAnnotation, @NotNull PsiClass psiClass,
+                                                            @NotNull ResolvedConfig resolvedConfig, @NotNull ConfigKey configKey) {
     final boolean result;
     final Boolean declaredAnnotationValue = PsiAnnotationUtil.getDeclaredBooleanAnnotationValue(psiAnnotation, "callSuper");
     if (null == declaredAnnotationValue) {
-      final String configProperty = configDiscovery.getStringLombokConfigProperty(configKey, psiClass);
-      result = PsiClassUtil.hasSuperClass(psiClass) && "CALL".equalsIgnoreCase(configProperty);
+      result = PsiClassUtil.hasSuperClass(psiClass) && "CALL".equalsIgnoreCase(resolvedConfig.getValue(configKey));
     } else {
       result = declaredAnnotationValue;
     }
@@ -11,6 +11,7 @@ import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
 import de.plushnikov.intellij.plugin.processor.LombokPsiElementUsage;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.NoArgsConstructorProcessor;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.RequiredArgsConstructorProcessor;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
@@ -34,6 +35,8 @@ import java.util.List;
  * @author Plushnikov Michail
  */
 public class DataProcessor extends AbstractClassProcessor {
+  private static final AnnotationMatcher CONSTRUCTOR_ANNOTATIONS = AnnotationMatcher.of(NoArgsConstructor.class, RequiredArgsConstructor.class,
+    AllArgsConstructor.class, Builder.class, SuperBuilder.class);
 
   private final GetterProcessor getterProcessor;
   private final SetterProcessor setterProcessor;
@@ -113,8 +116,7 @@ public class DataProcessor extends AbstractClassProcessor {
   private boolean shouldGenerateRequiredArgsConstructor(@NotNull PsiClass psiClass, @Nullable String staticName) {
     boolean result = false;
     // create required constructor only if there are no other constructor annotations
-    @SuppressWarnings("unchecked") final boolean notAnnotatedWith = PsiAnnotationSearchUtil.isNotAnnotatedWith(psiClass, NoArgsConstructor.class,
-      RequiredArgsConstructor.class, AllArgsConstructor.class, Builder.class, SuperBuilder.class);
+    final boolean notAnnotatedWith = PsiAnnotationSearchUtil.isNotAnnotatedWith(psiClass, CONSTRUCTOR_ANNOTATIONS);
     if (notAnnotatedWith) {
       final Collection<PsiMethod> definedConstructors = PsiClassUtil.collectClassConstructorIntern(psiClass);
       filterToleratedElements(definedConstructors);
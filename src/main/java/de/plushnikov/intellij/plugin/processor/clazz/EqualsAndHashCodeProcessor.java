@@ -5,6 +5,7 @@ import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTypesUtil;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKey;
+import de.plushnikov.intellij.plugin.lombokconfig.ResolvedConfig;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.LombokPsiElementUsage;
 import de.plushnikov.intellij.plugin.processor.handler.EqualsAndHashCodeToStringHandler;
@@ -134,19 +135,20 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
       return Collections.emptyList();
     }
 
-    final Collection<MemberInfo> memberInfos = handler.filterFields(psiClass, psiAnnotation, true, INCLUDE_ANNOTATION_METHOD);
+    final Collection<MemberInfo> memberInfos = Collections.unmodifiableCollection(handler.filterFields(psiClass, psiAnnotation, true, INCLUDE_ANNOTATION_METHOD));
+    final ResolvedConfig resolvedConfig = configDiscovery.getResolvedConfig(psiClass);
 
     final boolean shouldGenerateCanEqual = shouldGenerateCanEqual(psiClass);
 
     Collection<PsiMethod> result = new ArrayList<>(3);
-    result.add(createEqualsMethod(psiClass, psiAnnotation, shouldGenerateCanEqual, memberInfos));
+    result.add(createEqualsMethod(psiClass, psiAnnotation, resolvedConfig, shouldGenerateCanEqual, memberInfos));
 
     final Collection<PsiMethod> classMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
     if (shouldGenerateCanEqual && !PsiMethodUtil.hasMethodByName(classMethods, CAN_EQUAL_METHOD_NAME)) {
       result.add(createCanEqualMethod(psiClass, psiAnnotation));
     }
 
-    result.add(createHashCodeMethod(psiClass, psiAnnotation, memberInfos));
+    result.add(createHashCodeMethod(psiClass, psiAnnotation, resolvedConfig, memberInfos));
     return result;
   }
 
@@ -162,31 +164,33 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   }
 
   @NotNull
-  private PsiMethod createEqualsMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, boolean hasCanEqualMethod, Collection<MemberInfo> memberInfos) {
+  private PsiMethod createEqualsMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull ResolvedConfig resolvedConfig,
+                                       boolean hasCanEqualMethod, Collection<MemberInfo> memberInfos) {
     final PsiManager psiManager = psiClass.getManager();
 
-    final String blockText = createEqualsBlockString(psiClass, psiAnnotation, hasCanEqualMethod, memberInfos);
     final LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(psiManager, EQUALS_METHOD_NAME)
       .withModifier(PsiModifier.PUBLIC)
       .withMethodReturnType(PsiType.BOOLEAN)
       .withContainingClass(psiClass)
       .withNavigationElement(psiAnnotation)
       .withFinalParameter("o", PsiType.getJavaLangObject(psiManager, psiClass.getResolveScope()));
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(
+      createEqualsBlockString(psiClass, psiAnnotation, resolvedConfig, hasCanEqualMethod, memberInfos), methodBuilder));
     return methodBuilder;
   }
 
   @NotNull
-  private PsiMethod createHashCodeMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, Collection<MemberInfo> memberInfos) {
+  private PsiMethod createHashCodeMethod(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull ResolvedConfig resolvedConfig,
+                                         Collection<MemberInfo> memberInfos) {
     final PsiManager psiManager = psiClass.getManager();
 
-    final String blockText = createHashcodeBlockString(psiClass, psiAnnotation, memberInfos);
     final LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(psiManager, HASH_CODE_METHOD_NAME)
       .withModifier(PsiModifier.PUBLIC)
       .withMethodReturnType(PsiType.INT)
       .withContainingClass(psiClass)
       .withNavigationElement(psiAnnotation);
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(
+      createHashcodeBlockString(psiClass, psiAnnotation, resolvedConfig, memberInfos), methodBuilder));
     return methodBuilder;
   }
 
@@ -201,13 +205,14 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
       .withContainingClass(psiClass)
       .withNavigationElement(psiAnnotation)
       .withFinalParameter("other", PsiType.getJavaLangObject(psiManager, psiClass.getResolveScope()));
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
     return methodBuilder;
   }
 
-  private String createEqualsBlockString(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, boolean hasCanEqualMethod, Collection<MemberInfo> memberInfos) {
-    final boolean callSuper = readCallSuperAnnotationOrConfigProperty(psiAnnotation, psiClass, ConfigKey.EQUALSANDHASHCODE_CALL_SUPER);
-    final boolean doNotUseGetters = readAnnotationOrConfigProperty(psiAnnotation, psiClass, "doNotUseGetters", ConfigKey.EQUALSANDHASHCODE_DO_NOT_USE_GETTERS);
+  private String createEqualsBlockString(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull ResolvedConfig resolvedConfig,
+                                         boolean hasCanEqualMethod, Collection<MemberInfo> memberInfos) {
+    final boolean callSuper = readCallSuperAnnotationOrConfigProperty(psiAnnotation, psiClass, resolvedConfig, ConfigKey.EQUALSANDHASHCODE_CALL_SUPER);
+    final boolean doNotUseGetters = readAnnotationOrConfigProperty(psiAnnotation, resolvedConfig, "doNotUseGetters", ConfigKey.EQUALSANDHASHCODE_DO_NOT_USE_GETTERS);
 
     final String canonicalClassName = PsiTypesUtil.getClassType(psiClass).getCanonicalText();
     final String canonicalWildcardClassName = PsiClassUtil.getWildcardClassType(psiClass).getCanonicalText();
@@ -267,9 +272,10 @@ public class EqualsAndHashCodeProcessor extends AbstractClassProcessor {
   private static final int PRIME_FOR_FALSE = 97;
   private static final int PRIME_FOR_NULL = 43;
 
-  private String createHashcodeBlockString(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, Collection<MemberInfo> memberInfos) {
-    final boolean callSuper = readCallSuperAnnotationOrConfigProperty(psiAnnotation, psiClass, ConfigKey.EQUALSANDHASHCODE_CALL_SUPER);
-    final boolean doNotUseGetters = readAnnotationOrConfigProperty(psiAnnotation, psiClass, "doNotUseGetters", ConfigKey.EQUALSANDHASHCODE_DO_NOT_USE_GETTERS);
+  private String createHashcodeBlockString(@NotNull PsiClass psiClass, @NotNull PsiAnnotation psiAnnotation, @NotNull ResolvedConfig resolvedConfig,
+                                           Collection<MemberInfo> memberInfos) {
+    final boolean callSuper = readCallSuperAnnotationOrConfigProperty(psiAnnotation, psiClass, resolvedConfig, ConfigKey.EQUALSANDHASHCODE_CALL_SUPER);
+    final boolean doNotUseGetters = readAnnotationOrConfigProperty(psiAnnotation, resolvedConfig, "doNotUseGetters", ConfigKey.EQUALSANDHASHCODE_DO_NOT_USE_GETTERS);
 
     final StringBuilder builder = new StringBuilder();
 
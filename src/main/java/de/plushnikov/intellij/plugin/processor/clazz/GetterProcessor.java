@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.processor.clazz;
 
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -31,7 +32,7 @@ import java.util.List;
  *
  * @author Plushnikov Michail
  */
-public class GetterProcessor extends AbstractClassProcessor {
+public class GetterProcessor extends AbstractClassProcessor implements DumbAware {
 
   private final GetterFieldProcessor fieldProcessor;
 
@@ -96,7 +97,7 @@ public class GetterProcessor extends AbstractClassProcessor {
         //Skip static fields.
         createGetter = !modifierList.hasModifierProperty(PsiModifier.STATIC);
         //Skip fields having Getter annotation already
-        createGetter &= PsiAnnotationSearchUtil.isNotAnnotatedWith(psiField, fieldProcessor.getSupportedAnnotationClasses());
+        createGetter &= PsiAnnotationSearchUtil.isNotAnnotatedWith(psiField, fieldProcessor.getSupportedAnnotationMatcher());
         //Skip fields that start with $
         createGetter &= !psiField.getName().startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
         //Skip fields if a method with same name and arguments count already exists
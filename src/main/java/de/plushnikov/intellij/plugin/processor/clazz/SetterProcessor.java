@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.processor.clazz;
 
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -29,7 +30,7 @@ import java.util.List;
  *
  * @author Plushnikov Michail
  */
-public class SetterProcessor extends AbstractClassProcessor {
+public class SetterProcessor extends AbstractClassProcessor implements DumbAware {
 
   private final SetterFieldProcessor fieldProcessor;
 
@@ -90,7 +91,7 @@ public class SetterProcessor extends AbstractClassProcessor {
         //Skip static fields.
         createSetter &= !modifierList.hasModifierProperty(PsiModifier.STATIC);
         //Skip fields having Setter annotation already
-        createSetter &= PsiAnnotationSearchUtil.isNotAnnotatedWith(psiField, fieldProcessor.getSupportedAnnotationClasses());
+        createSetter &= PsiAnnotationSearchUtil.isNotAnnotatedWith(psiField, fieldProcessor.getSupportedAnnotationMatcher());
         //Skip fields that start with $
         createSetter &= !psiField.getName().startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
         //Skip fields if a method with same name already exists
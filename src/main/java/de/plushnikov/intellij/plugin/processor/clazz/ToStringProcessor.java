@@ -4,6 +4,7 @@ import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKey;
+import de.plushnikov.intellij.plugin.lombokconfig.ResolvedConfig;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.LombokPsiElementUsage;
 import de.plushnikov.intellij.plugin.processor.handler.EqualsAndHashCodeToStringHandler;
@@ -16,6 +17,7 @@ import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
 import lombok.ToString;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -105,15 +107,17 @@ public class ToStringProcessor extends AbstractClassProcessor {
   public PsiMethod createToStringMethod(@NotNull PsiClass psiClass, @NotNull Collection<MemberInfo> memberInfos, @NotNull PsiAnnotation psiAnnotation, boolean forceCallSuper) {
     final PsiManager psiManager = psiClass.getManager();
 
-    final String paramString = createParamString(psiClass, memberInfos, psiAnnotation, forceCallSuper);
-    final String blockText = String.format("return \"%s(%s)\";", getSimpleClassName(psiClass), paramString);
-
+    final Collection<MemberInfo> bodyMemberInfos = Collections.unmodifiableList(new ArrayList<>(memberInfos));
     final LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(psiManager, METHOD_NAME)
       .withMethodReturnType(PsiType.getJavaLangString(psiManager, GlobalSearchScope.allScope(psiClass.getProject())))
       .withContainingClass(psiClass)
       .withNavigationElement(psiAnnotation)
       .withModifier(PsiModifier.PUBLIC);
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+    methodBuilder.withBody(() -> {
+      final String paramString = createParamString(psiClass, bodyMemberInfos, psiAnnotation, forceCallSuper);
+      final String blockText = String.format("return \"%s(%s)\";", getSimpleClassName(psiClass), paramString);
+      return PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder);
+    });
     return methodBuilder;
   }
 
@@ -133,9 +137,10 @@ public class ToStringProcessor extends AbstractClassProcessor {
   }
 
   private String createParamString(@NotNull PsiClass psiClass, @NotNull Collection<MemberInfo> memberInfos, @NotNull PsiAnnotation psiAnnotation, boolean forceCallSuper) {
-    final boolean callSuper = forceCallSuper || readCallSuperAnnotationOrConfigProperty(psiAnnotation, psiClass, ConfigKey.TOSTRING_CALL_SUPER);
-    final boolean doNotUseGetters = readAnnotationOrConfigProperty(psiAnnotation, psiClass, "doNotUseGetters", ConfigKey.TOSTRING_DO_NOT_USE_GETTERS);
-    final boolean includeFieldNames = readAnnotationOrConfigProperty(psiAnnotation, psiClass, "includeFieldNames", ConfigKey.TOSTRING_INCLUDE_FIELD_NAMES);
+    final ResolvedConfig resolvedConfig = configDiscovery.getResolvedConfig(psiClass);
+    final boolean callSuper = forceCallSuper || readCallSuperAnnotationOrConfigProperty(psiAnnotation, psiClass, resolvedConfig, ConfigKey.TOSTRING_CALL_SUPER);
+    final boolean doNotUseGetters = readAnnotationOrConfigProperty(psiAnnotation, resolvedConfig, "doNotUseGetters", ConfigKey.TOSTRING_DO_NOT_USE_GETTERS);
+    final boolean includeFieldNames = readAnnotationOrConfigProperty(psiAnnotation, resolvedConfig, "includeFieldNames", ConfigKey.TOSTRING_INCLUDE_FIELD_NAMES);
 
     final StringBuilder paramString = new StringBuilder();
     if (callSuper) {
@@ -92,7 +92,7 @@ public class UtilityClassProcessor extends AbstractClassProcessor {
 
     String methodBody = String.format("throw new %s(%s);", "java.lang.UnsupportedOperationException", "\"This is a utility class and cannot be instantiated\"");
 
-    constructorBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(methodBody, constructorBuilder));
+    constructorBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(methodBody, constructorBuilder));
     target.add(constructorBuilder);
   }
 }
@@ -11,6 +11,7 @@ import de.plushnikov.intellij.plugin.problem.ProblemEmptyBuilder;
 import de.plushnikov.intellij.plugin.processor.LombokPsiElementUsage;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.AllArgsConstructorProcessor;
 import de.plushnikov.intellij.plugin.processor.clazz.constructor.NoArgsConstructorProcessor;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
@@ -30,6 +31,8 @@ import java.util.List;
  * @author twillouer
  */
 public class ValueProcessor extends AbstractClassProcessor {
+  private static final AnnotationMatcher CONSTRUCTOR_ANNOTATIONS = AnnotationMatcher.of(NoArgsConstructor.class, RequiredArgsConstructor.class,
+    AllArgsConstructor.class, lombok.Builder.class);
 
   private final GetterProcessor getterProcessor;
   private final EqualsAndHashCodeProcessor equalsAndHashCodeProcessor;
@@ -83,8 +86,7 @@ public class ValueProcessor extends AbstractClassProcessor {
       target.addAll(toStringProcessor.createToStringMethod(psiClass, psiAnnotation));
     }
     // create required constructor only if there are no other constructor annotations
-    if (PsiAnnotationSearchUtil.isNotAnnotatedWith(psiClass, NoArgsConstructor.class, RequiredArgsConstructor.class, AllArgsConstructor.class,
-      lombok.Builder.class)) {
+    if (PsiAnnotationSearchUtil.isNotAnnotatedWith(psiClass, CONSTRUCTOR_ANNOTATIONS)) {
       final Collection<PsiMethod> definedConstructors = PsiClassUtil.collectClassConstructorIntern(psiClass);
       filterToleratedElements(definedConstructors);
       // and only if there are no any other constructors!
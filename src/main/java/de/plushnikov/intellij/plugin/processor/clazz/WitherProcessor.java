@@ -12,6 +12,7 @@ import de.plushnikov.intellij.plugin.processor.LombokPsiElementUsage;
 import de.plushnikov.intellij.plugin.processor.field.AccessorsInfo;
 import de.plushnikov.intellij.plugin.processor.field.WitherFieldProcessor;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
@@ -25,6 +26,8 @@ import java.util.Collection;
 import java.util.List;
 
 public class WitherProcessor extends AbstractClassProcessor {
+  private static final AnnotationMatcher WITHER_ANNOTATIONS = AnnotationMatcher.of(Wither.class, With.class);
+
   private static final String BUILDER_DEFAULT_ANNOTATION = Builder.Default.class.getName().replace("$", ".");
 
   private final WitherFieldProcessor fieldProcessor;
@@ -93,7 +96,7 @@ public class WitherProcessor extends AbstractClassProcessor {
         // Skip fields that start with $
         createWither &= !psiField.getName().startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
         // Skip fields having Wither annotation already
-        createWither &= !PsiAnnotationSearchUtil.isAnnotatedWith(psiField, Wither.class, With.class);
+        createWither &= !PsiAnnotationSearchUtil.isAnnotatedWith(psiField, WITHER_ANNOTATIONS);
       }
       if (createWither) {
         witherFields.add(psiField);
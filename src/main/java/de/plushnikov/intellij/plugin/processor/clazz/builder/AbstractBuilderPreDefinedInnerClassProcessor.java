@@ -55,7 +55,7 @@ public abstract class AbstractBuilderPreDefinedInnerClassProcessor extends Abstr
       final PsiClass psiParentClass = parentClass.get();
       final Collection<PsiMethod> psiMethods = PsiClassUtil.collectClassMethodsIntern(psiParentClass);
       for (PsiMethod psiMethod : psiMethods) {
-        final PsiAnnotation psiBuilderAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiMethod, getSupportedAnnotationClasses());
+        final PsiAnnotation psiBuilderAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiMethod, getSupportedAnnotationMatcher());
         if (null != psiBuilderAnnotation) {
           return processAnnotation(psiParentClass, psiMethod, psiBuilderAnnotation, psiClass);
         }
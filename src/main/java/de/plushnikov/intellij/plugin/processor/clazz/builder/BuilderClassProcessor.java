@@ -1,6 +1,7 @@
 package de.plushnikov.intellij.plugin.processor.clazz.builder;
 
 import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -20,7 +21,7 @@ import java.util.List;
  * @author Tomasz Kalkosiński
  * @author Michail Plushnikov
  */
-public class BuilderClassProcessor extends AbstractClassProcessor {
+public class BuilderClassProcessor extends AbstractClassProcessor implements DumbAware {
 
   private final BuilderHandler builderHandler;
 
@@ -1,6 +1,7 @@
 package de.plushnikov.intellij.plugin.processor.clazz.builder;
 
 import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -30,7 +31,7 @@ import java.util.List;
  * @author Tomasz Kalkosiński
  * @author Michail Plushnikov
  */
-public class BuilderProcessor extends AbstractClassProcessor {
+public class BuilderProcessor extends AbstractClassProcessor implements DumbAware {
 
   static final String SINGULAR_CLASS = Singular.class.getName();
   static final String BUILDER_DEFAULT_CLASS = Builder.Default.class.getName().replace("$", ".");
@@ -2,6 +2,7 @@ package de.plushnikov.intellij.plugin.processor.clazz.constructor;
 
 import com.intellij.codeInsight.daemon.impl.quickfix.SafeDeleteFix;
 import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.light.LightReferenceListBuilder;
@@ -40,7 +41,7 @@ import java.util.stream.Collectors;
  *
  * @author Plushnikov Michail
  */
-public abstract class AbstractConstructorClassProcessor extends AbstractClassProcessor {
+public abstract class AbstractConstructorClassProcessor extends AbstractClassProcessor implements DumbAware {
   private static final String BUILDER_DEFAULT_ANNOTATION = Builder.Default.class.getName().replace("$", ".");
 
   AbstractConstructorClassProcessor(@NotNull Class<? extends Annotation> supportedAnnotationClass,
@@ -174,7 +175,7 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
 
         boolean isFinal = isFieldFinal(psiField, modifierList, classAnnotatedWithValue);
         // skip initialized final fields
-        addField &= (!isFinal || null == psiField.getInitializer() ||
+        addField &= (!isFinal || !psiField.hasInitializer() ||
           PsiAnnotationSearchUtil.findAnnotation(psiField, BUILDER_DEFAULT_ANNOTATION) != null);
       }
 
@@ -201,7 +202,7 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
         final boolean isFinal = isFieldFinal(psiField, modifierList, classAnnotatedWithValue);
         final boolean isNonNull = PsiAnnotationSearchUtil.isAnnotatedWith(psiField, LombokUtils.NON_NULL_PATTERN);
         // accept initialized final or nonnull fields
-        if ((isFinal || isNonNull) && null == psiField.getInitializer()) {
+        if ((isFinal || isNonNull) && !psiField.hasInitializer()) {
           result.add(psiField);
         }
       }
@@ -292,7 +293,7 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
       blockText.append(String.format("this.%s = %s;\n", param.getName(), fieldInitializer));
     }
 
-    constructorBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText.toString(), constructorBuilder));
+    constructorBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(blockText.toString(), constructorBuilder));
 
     return constructorBuilder;
   }
@@ -330,7 +331,7 @@ public abstract class AbstractConstructorClassProcessor extends AbstractClassPro
     }
 
     final String codeBlockText = createStaticCodeBlockText(returnType, useJavaDefaults, methodBuilder.getParameterList());
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder));
 
     return methodBuilder;
   }
@@ -86,7 +86,7 @@ public class FieldNameConstantsOldProcessor extends AbstractClassProcessor {
         //Skip static fields.
         useField = !modifierList.hasModifierProperty(PsiModifier.STATIC);
         //Skip fields having same annotation already
-        useField &= PsiAnnotationSearchUtil.isNotAnnotatedWith(psiField, fieldProcessor.getSupportedAnnotationClasses());
+        useField &= PsiAnnotationSearchUtil.isNotAnnotatedWith(psiField, fieldProcessor.getSupportedAnnotationMatcher());
         //Skip fields that start with $
         useField &= !psiField.getName().startsWith(LombokUtils.LOMBOK_INTERN_FIELD_MARKER);
       }
@@ -35,7 +35,7 @@ public class FieldNameConstantsPredefinedInnerClassFieldProcessor extends Abstra
   public List<? super PsiElement> process(@NotNull PsiClass psiClass) {
     if (psiClass.getParent() instanceof PsiClass) {
       PsiClass parentClass = (PsiClass) psiClass.getParent();
-      PsiAnnotation psiAnnotation = PsiAnnotationSearchUtil.findAnnotation(parentClass, getSupportedAnnotationClasses());
+      PsiAnnotation psiAnnotation = PsiAnnotationSearchUtil.findAnnotation(parentClass, getSupportedAnnotationMatcher());
       if (null != psiAnnotation && supportAnnotationVariant(psiAnnotation)) {
         ProblemEmptyBuilder problemBuilder = ProblemEmptyBuilder.getInstance();
         if (super.validate(psiAnnotation, parentClass, problemBuilder)) {
@@ -1,17 +1,20 @@
 package de.plushnikov.intellij.plugin.processor.clazz.log;
 
 import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigDiscovery;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKey;
+import de.plushnikov.intellij.plugin.lombokconfig.ResolvedConfig;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.processor.clazz.AbstractClassProcessor;
 import de.plushnikov.intellij.plugin.psi.LombokLightFieldBuilder;
 import de.plushnikov.intellij.plugin.settings.ProjectSettings;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import de.plushnikov.intellij.plugin.util.PsiTypePool;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.annotation.Annotation;
@@ -23,7 +26,7 @@ import java.util.List;
  *
  * @author Plushnikov Michail
  */
-public abstract class AbstractLogProcessor extends AbstractClassProcessor {
+public abstract class AbstractLogProcessor extends AbstractClassProcessor implements DumbAware {
 
   private final String loggerType;
   private final String loggerInitializer;
@@ -82,14 +85,15 @@ public abstract class AbstractLogProcessor extends AbstractClassProcessor {
     final PsiManager manager = psiClass.getContainingFile().getManager();
 
     final PsiElementFactory psiElementFactory = JavaPsiFacade.getElementFactory(project);
-    final PsiType psiLoggerType = psiElementFactory.createTypeFromText(loggerType, psiClass);
+    final PsiType psiLoggerType = PsiTypePool.getInstance(psiClass).createTypeFromText(loggerType);
+    final ResolvedConfig resolvedConfig = ConfigDiscovery.getInstance().getResolvedConfig(psiClass);
 
-    LombokLightFieldBuilder loggerField = new LombokLightFieldBuilder(manager, getLoggerName(psiClass), psiLoggerType)
+    LombokLightFieldBuilder loggerField = new LombokLightFieldBuilder(manager, resolvedConfig.getValue(ConfigKey.LOG_FIELDNAME), psiLoggerType)
       .withContainingClass(psiClass)
       .withModifier(PsiModifier.FINAL)
       .withModifier(PsiModifier.PRIVATE)
       .withNavigationElement(psiAnnotation);
-    if (isLoggerStatic(psiClass)) {
+    if (resolvedConfig.getBooleanValue(ConfigKey.LOG_FIELD_IS_STATIC)) {
       loggerField.withModifier(PsiModifier.STATIC);
     }
 
@@ -1,11 +1,18 @@
 package de.plushnikov.intellij.plugin.processor.field;
 
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiVariable;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigDiscovery;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKey;
+import de.plushnikov.intellij.plugin.lombokconfig.LombokConfigChangeTracker;
+import de.plushnikov.intellij.plugin.lombokconfig.ResolvedConfig;
+import de.plushnikov.intellij.plugin.provider.LombokAugmentProvider;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import lombok.experimental.Accessors;
@@ -14,6 +21,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Plushnikov Michail
@@ -38,9 +47,16 @@ public class AccessorsInfo {
     return new AccessorsInfo(fluentValue, chainValue, doNotUseIsPrefix, prefixes);
   }
 
+  /**
+   * @return accessors info of the field, shared by all processors asking for the same physical field
+   */
   @NotNull
   public static AccessorsInfo build(@NotNull PsiField psiField) {
-    return build(psiField, psiField.getContainingClass());
+    final PsiClass containingClass = psiField.getContainingClass();
+    if (null != containingClass && psiField.isPhysical()) {
+      return getAccessorsInfoTable(containingClass).getFieldAccessorsInfo(psiField);
+    }
+    return build(psiField, containingClass);
   }
 
   @NotNull
@@ -63,8 +79,19 @@ public class AccessorsInfo {
     }
   }
 
+  /**
+   * @return accessors info of the class, shared by all processors asking for the same class
+   */
   @NotNull
   public static AccessorsInfo build(@Nullable PsiClass psiClass) {
+    if (null != psiClass) {
+      return getAccessorsInfoTable(psiClass).getClassAccessorsInfo();
+    }
+    return buildAccessorsInfo(null, null, null, Collections.emptySet());
+  }
+
+  @NotNull
+  private static AccessorsInfo buildForClass(@NotNull PsiClass psiClass) {
     PsiClass containingClass = psiClass;
     while (null != containingClass) {
       final PsiAnnotation accessorsClassAnnotation = PsiAnnotationSearchUtil.findAnnotation(containingClass, Accessors.class);
@@ -77,6 +104,11 @@ public class AccessorsInfo {
     return buildAccessorsInfo(psiClass, null, null, Collections.emptySet());
   }
 
+  @NotNull
+  private static AccessorsInfoTable getAccessorsInfoTable(@NotNull PsiClass psiClass) {
+    return CachedValuesManager.getCachedValue(psiClass, new AccessorsInfoTableCachedValueProvider(psiClass));
+  }
+
   @NotNull
   private static AccessorsInfo buildFromAnnotation(@NotNull PsiAnnotation accessorsAnnotation, @Nullable PsiClass psiClass) {
     Boolean chainDeclaredValue = PsiAnnotationUtil.getDeclaredBooleanAnnotationValue(accessorsAnnotation, "chain");
@@ -95,26 +127,26 @@ public class AccessorsInfo {
     final String[] prefixes;
 
     if (null != psiClass) {
-      final ConfigDiscovery configDiscovery = ConfigDiscovery.getInstance();
+      final ResolvedConfig resolvedConfig = ConfigDiscovery.getInstance().getResolvedConfig(psiClass);
       if (null == fluentDeclaredValue) {
-        isFluent = configDiscovery.getBooleanLombokConfigProperty(ConfigKey.ACCESSORS_FLUENT, psiClass);
+        isFluent = resolvedConfig.getBooleanValue(ConfigKey.ACCESSORS_FLUENT);
       } else {
         isFluent = fluentDeclaredValue;
       }
 
       if (null == chainDeclaredValue) {
-        isChained = configDiscovery.getBooleanLombokConfigProperty(ConfigKey.ACCESSORS_CHAIN, psiClass);
+        isChained = resolvedConfig.getBooleanValue(ConfigKey.ACCESSORS_CHAIN);
       } else {
         isChained = chainDeclaredValue;
       }
 
       if (prefixDeclared.isEmpty()) {
-        prefixes = configDiscovery.getMultipleValueLombokConfigProperty(ConfigKey.ACCESSORS_PREFIX, psiClass);
+        prefixes = resolvedConfig.getMultipleValues(ConfigKey.ACCESSORS_PREFIX);
       } else {
         prefixes = prefixDeclared.toArray(new String[0]);
       }
 
-      doNotUseIsPrefix = configDiscovery.getBooleanLombokConfigProperty(ConfigKey.GETTER_NO_IS_PREFIX, psiClass);
+      doNotUseIsPrefix = resolvedConfig.getBooleanValue(ConfigKey.GETTER_NO_IS_PREFIX);
 
     } else {
       isFluent = null == fluentDeclaredValue ? false : fluentDeclaredValue;
@@ -186,4 +218,41 @@ public class AccessorsInfo {
     chars[0] = Character.toLowerCase(chars[0]);
     return new String(chars);
   }
+
+  /**
+   * Class level and per field accessors info of one class
+   */
+  private static class AccessorsInfoTable {
+    private final AccessorsInfo classAccessorsInfo;
+    private final ConcurrentMap<PsiField, AccessorsInfo> fieldAccessorsInfos = new ConcurrentHashMap<>();
+
+    private AccessorsInfoTable(@NotNull AccessorsInfo classAccessorsInfo) {
+      this.classAccessorsInfo = classAccessorsInfo;
+    }
+
+    @NotNull
+    AccessorsInfo getClassAccessorsInfo() {
+      return classAccessorsInfo;
+    }
+
+    @NotNull
+    AccessorsInfo getFieldAccessorsInfo(@NotNull PsiField psiField) {
+      return fieldAccessorsInfos.computeIfAbsent(psiField, field -> build(field, classAccessorsInfo));
+    }
+  }
+
+  private static class AccessorsInfoTableCachedValueProvider implements CachedValueProvider<AccessorsInfoTable> {
+    private final PsiClass psiClass;
+
+    AccessorsInfoTableCachedValueProvider(PsiClass psiClass) {
+      this.psiClass = psiClass;
+    }
+
+    @Override
+    public Result<AccessorsInfoTable> compute() {
+      final Project project = psiClass.getProject();
+      return Result.create(new AccessorsInfoTable(buildForClass(psiClass)), LombokAugmentProvider.getDependency(psiClass),
+        LombokConfigChangeTracker.getInstance(project), DumbService.getInstance(project).getModificationTracker());
+    }
+  }
 }
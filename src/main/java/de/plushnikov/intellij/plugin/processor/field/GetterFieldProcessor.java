@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.processor.field;
 
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
@@ -31,7 +32,7 @@ import java.util.List;
  *
  * @author Plushnikov Michail
  */
-public class GetterFieldProcessor extends AbstractFieldProcessor {
+public class GetterFieldProcessor extends AbstractFieldProcessor implements DumbAware {
 
   public GetterFieldProcessor() {
     super(PsiMethod.class, Getter.class);
@@ -64,7 +65,7 @@ public class GetterFieldProcessor extends AbstractFieldProcessor {
           PsiQuickFixFactory.createModifierListFix(psiField, PsiModifier.FINAL, true, false));
         result = false;
       }
-      if (null == psiField.getInitializer()) {
+      if (!psiField.hasInitializer()) {
         builder.addError("'lazy' requires field initialization.");
         result = false;
       }
@@ -133,7 +134,7 @@ public class GetterFieldProcessor extends AbstractFieldProcessor {
     }
 
     final String blockText = String.format("return %s.%s;", isStatic ? psiClass.getName() : "this", psiField.getName());
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
 
     PsiModifierList modifierList = methodBuilder.getModifierList();
     copyAnnotations(psiField, modifierList,
@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.processor.field;
 
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
@@ -32,7 +33,7 @@ import java.util.List;
  *
  * @author Plushnikov Michail
  */
-public class SetterFieldProcessor extends AbstractFieldProcessor {
+public class SetterFieldProcessor extends AbstractFieldProcessor implements DumbAware {
 
   public SetterFieldProcessor() {
     super(PsiMethod.class, Setter.class);
@@ -154,7 +155,7 @@ public class SetterFieldProcessor extends AbstractFieldProcessor {
     }
 
     final String codeBlockText = createCodeBlockText(psiField, psiClass, returnType, isStatic, methodParameter);
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder));
 
     PsiModifierList methodModifierList = methodBuilder.getModifierList();
     copyAnnotations(psiField, methodModifierList, LombokUtils.DEPRECATED_PATTERN);
@@ -16,6 +16,7 @@ import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightParameter;
 import de.plushnikov.intellij.plugin.quickfix.PsiQuickFixFactory;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import de.plushnikov.intellij.plugin.util.PsiClassUtil;
@@ -35,6 +36,9 @@ import java.util.Collection;
 import java.util.List;
 
 public class WitherFieldProcessor extends AbstractFieldProcessor {
+  private static final AnnotationMatcher ALL_ARGS_CONSTRUCTOR_ANNOTATIONS = AnnotationMatcher.of(AllArgsConstructor.class, Value.class, Builder.class);
+  private static final AnnotationMatcher REQUIRED_ARGS_CONSTRUCTOR_ANNOTATIONS = AnnotationMatcher.of(RequiredArgsConstructor.class, Data.class);
+  private static final AnnotationMatcher WITHER_ANNOTATIONS = AnnotationMatcher.of(Wither.class, With.class);
 
   private final RequiredArgsConstructorProcessor requiredArgsConstructorProcessor;
 
@@ -92,7 +96,7 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
   }
 
   private boolean validNonFinalInitialized(@NotNull PsiField psiField, @NotNull ProblemBuilder builder) {
-    if (psiField.hasModifierProperty(PsiModifier.FINAL) && psiField.getInitializer() != null) {
+    if (psiField.hasModifierProperty(PsiModifier.FINAL) && psiField.hasInitializer()) {
       builder.addWarning("Not generating wither for this field: Withers cannot be generated for final, initialized fields.",
         PsiQuickFixFactory.createModifierListFix(psiField, PsiModifier.FINAL, false, false));
       return false;
@@ -120,13 +124,13 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
 
   @SuppressWarnings("unchecked")
   public boolean validConstructor(@NotNull PsiClass psiClass, @NotNull ProblemBuilder builder) {
-    if (PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, AllArgsConstructor.class, Value.class, Builder.class)) {
+    if (PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, ALL_ARGS_CONSTRUCTOR_ANNOTATIONS)) {
       return true;
     }
 
     final Collection<PsiField> constructorParameters = filterFields(psiClass);
 
-    if (PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, RequiredArgsConstructor.class, Data.class)) {
+    if (PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, REQUIRED_ARGS_CONSTRUCTOR_ANNOTATIONS)) {
       final Collection<PsiField> requiredConstructorParameters = requiredArgsConstructorProcessor.getRequiredFields(psiClass);
       if (constructorParameters.size() == requiredConstructorParameters.size()) {
         return true;
@@ -161,7 +165,7 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
       if (classField.hasModifierProperty(PsiModifier.STATIC)) {
         continue;
       }
-      if (classField.hasModifierProperty(PsiModifier.FINAL) && null != classField.getInitializer()) {
+      if (classField.hasModifierProperty(PsiModifier.FINAL) && classField.hasInitializer()) {
         continue;
       }
 
@@ -185,7 +189,7 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
         .withNavigationElement(psiField)
         .withModifier(methodModifier);
 
-      PsiAnnotation witherAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiField, Wither.class, With.class);
+      PsiAnnotation witherAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiField, WITHER_ANNOTATIONS);
       addOnXAnnotations(witherAnnotation, methodBuilder.getModifierList(), "onMethod");
 
       final LombokLightParameter methodParameter = new LombokLightParameter(psiFieldName, psiFieldType, methodBuilder, JavaLanguage.INSTANCE);
@@ -200,7 +204,8 @@ public class WitherFieldProcessor extends AbstractFieldProcessor {
       } else {
         final String paramString = getConstructorCall(psiField, psiFieldContainingClass);
         final String blockText = String.format("return this.%s == %s ? this : new %s(%s);", psiFieldName, psiFieldName, returnType.getCanonicalText(), paramString);
-        methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+        final LombokLightMethodBuilder witherMethodBuilder = methodBuilder;
+        methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(blockText, witherMethodBuilder));
       }
     }
     return methodBuilder;
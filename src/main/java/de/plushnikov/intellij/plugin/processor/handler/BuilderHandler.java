@@ -22,6 +22,7 @@ import lombok.experimental.Wither;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -279,7 +280,7 @@ public class BuilderHandler {
         .withContainingClass(containingClass)
         .withNavigationElement(psiAnnotation)
         .withModifier(getBuilderOuterAccessVisibility(psiAnnotation));
-      methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+      methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
 
       addTypeParameters(builderPsiClass, psiMethod, methodBuilder);
 
@@ -312,12 +313,15 @@ public class BuilderHandler {
       .withNavigationElement(psiAnnotation)
       .withModifier(getBuilderOuterAccessVisibility(psiAnnotation));
 
-    final String toBuilderMethodCalls = builderInfos.stream()
-      .map(BuilderInfo::renderToBuilderCall)
-      .collect(Collectors.joining(".", ".", ""));
+    final List<BuilderInfo> bodyBuilderInfos = Collections.unmodifiableList(builderInfos);
+    methodBuilder.withBody(() -> {
+      final String toBuilderMethodCalls = bodyBuilderInfos.stream()
+        .map(BuilderInfo::renderToBuilderCall)
+        .collect(Collectors.joining(".", ".", ""));
 
-    final String blockText = String.format("return new %s()%s;", psiTypeWithGenerics.getPresentableText(), toBuilderMethodCalls);
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+      final String blockText = String.format("return new %s()%s;", psiTypeWithGenerics.getPresentableText(), toBuilderMethodCalls);
+      return PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder);
+    });
 
     return Optional.of(methodBuilder);
   }
@@ -460,21 +464,24 @@ public class BuilderHandler {
     final PsiSubstitutor builderSubstitutor = getBuilderSubstitutor(parentClass, builderClass);
     final PsiType returnType = builderSubstitutor.substitute(builderType);
 
-    final String buildMethodPrepare = builderInfos.stream()
-      .map(BuilderInfo::renderBuildPrepare)
-      .collect(Collectors.joining());
-
-    final String buildMethodParameters = builderInfos.stream()
-      .map(BuilderInfo::renderBuildCall)
-      .collect(Collectors.joining(","));
-
     final LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(parentClass.getManager(), buildMethodName)
       .withMethodReturnType(returnType)
       .withContainingClass(builderClass)
       .withNavigationElement(parentClass)
       .withModifier(getBuilderInnerAccessVisibility(psiAnnotation));
-    final String codeBlockText = createBuildMethodCodeBlockText(psiMethod, builderClass, returnType, buildMethodPrepare, buildMethodParameters);
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder));
+    final List<BuilderInfo> bodyBuilderInfos = Collections.unmodifiableList(new ArrayList<>(builderInfos));
+    methodBuilder.withBody(() -> {
+      final String buildMethodPrepare = bodyBuilderInfos.stream()
+        .map(BuilderInfo::renderBuildPrepare)
+        .collect(Collectors.joining());
+
+      final String buildMethodParameters = bodyBuilderInfos.stream()
+        .map(BuilderInfo::renderBuildCall)
+        .collect(Collectors.joining(","));
+
+      final String codeBlockText = createBuildMethodCodeBlockText(psiMethod, builderClass, returnType, buildMethodPrepare, buildMethodParameters);
+      return PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder);
+    });
 
     PsiMethod constructor = psiMethod;
     if (null == constructor) {
@@ -38,7 +38,7 @@ public class BuilderInfo {
   private PsiType builderClassType;
 
   private String fieldInBuilderName;
-  private PsiExpression fieldInitializer;
+  private boolean hasFieldInitializer;
   private boolean hasBuilderDefaultAnnotation;
 
   private PsiAnnotation singularAnnotation;
@@ -56,7 +56,7 @@ public class BuilderInfo {
     result.variableInClass = psiParameter;
     result.fieldInBuilderType = psiParameter.getType();
     result.deprecated = hasDeprecatedAnnotation(psiParameter);
-    result.fieldInitializer = null;
+    result.hasFieldInitializer = false;
     result.hasBuilderDefaultAnnotation = false;
 
     result.fieldInBuilderName = psiParameter.getName();
@@ -77,7 +77,7 @@ public class BuilderInfo {
     result.variableInClass = psiField;
     result.deprecated = isDeprecated(psiField);
     result.fieldInBuilderType = psiField.getType();
-    result.fieldInitializer = psiField.getInitializer();
+    result.hasFieldInitializer = psiField.hasInitializer();
     result.hasBuilderDefaultAnnotation = PsiAnnotationSearchUtil.isAnnotatedWith(psiField, BUILDER_DEFAULT_ANNOTATION);
 
     final AccessorsInfo accessorsInfo = AccessorsInfo.build(psiField);
@@ -138,7 +138,7 @@ public class BuilderInfo {
       result = !modifierList.hasModifierProperty(PsiModifier.STATIC);
 
       // skip initialized final fields unless annotated with @Builder.Default
-      final boolean isInitializedFinalField = null != fieldInitializer && modifierList.hasModifierProperty(PsiModifier.FINAL);
+      final boolean isInitializedFinalField = hasFieldInitializer && modifierList.hasModifierProperty(PsiModifier.FINAL);
       if (isInitializedFinalField && !hasBuilderDefaultAnnotation) {
         result = false;
       }
@@ -7,6 +7,7 @@ import com.intellij.psi.util.PsiUtil;
 import com.intellij.psi.util.TypeConversionUtil;
 import de.plushnikov.intellij.plugin.problem.ProblemBuilder;
 import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
 import de.plushnikov.intellij.plugin.util.PsiElementUtil;
@@ -25,6 +26,8 @@ import java.util.List;
  * Handler for Delegate annotation processing, for fields and for methods
  */
 public class DelegateHandler {
+  @SuppressWarnings("deprecation")
+  private static final AnnotationMatcher DELEGATE_ANNOTATIONS = AnnotationMatcher.of(Delegate.class, lombok.experimental.Delegate.class);
 
   public DelegateHandler() {
     // default constructor
@@ -213,7 +216,7 @@ public class DelegateHandler {
     }
 
     final String codeBlockText = createCodeBlockText(psiElement, psiMethod, returnType, psiParameters);
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder));
 
     return methodBuilder;
   }
@@ -266,7 +269,7 @@ public class DelegateHandler {
 
     @SuppressWarnings("deprecation")
     private void checkModifierListOwner(PsiModifierListOwner modifierListOwner) {
-      if (PsiAnnotationSearchUtil.isAnnotatedWith(modifierListOwner, Delegate.class, lombok.experimental.Delegate.class)) {
+      if (PsiAnnotationSearchUtil.isAnnotatedWith(modifierListOwner, DELEGATE_ANNOTATIONS)) {
         builder.addError("@Delegate does not support recursion (delegating to a type that itself has @Delegate members). " +
           "Member \"%s\" is @Delegate in type \"%s\"", ((PsiMember) modifierListOwner).getName(), psiType.getPresentableText());
         valid = false;
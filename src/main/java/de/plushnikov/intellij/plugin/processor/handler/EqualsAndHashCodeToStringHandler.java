@@ -9,6 +9,7 @@ import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiType;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationUtil;
@@ -26,6 +27,7 @@ import java.util.HashSet;
 import java.util.List;
 
 public class EqualsAndHashCodeToStringHandler {
+  private static final AnnotationMatcher GETTER_ANNOTATIONS = AnnotationMatcher.of(Data.class, Value.class, Getter.class);
 
   private static final String TO_STRING_RANK_ANNOTATION_PARAMETER = "rank";
 
@@ -220,7 +222,7 @@ public class EqualsAndHashCodeToStringHandler {
       final String getterName = LombokUtils.getGetterName(classField);
 
       final boolean hasGetter;
-      @SuppressWarnings("unchecked") final boolean annotatedWith = PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Data.class, Value.class, Getter.class);
+      final boolean annotatedWith = PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, GETTER_ANNOTATIONS);
       if (annotatedWith) {
         final PsiAnnotation getterLombokAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiClass, Getter.class);
         hasGetter = null == getterLombokAnnotation || null != LombokProcessorUtil.getMethodModifier(getterLombokAnnotation);
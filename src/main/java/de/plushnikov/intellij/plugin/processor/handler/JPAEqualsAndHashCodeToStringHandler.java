@@ -3,6 +3,7 @@ package de.plushnikov.intellij.plugin.processor.handler;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
 import de.plushnikov.intellij.plugin.thirdparty.LombokUtils;
+import de.plushnikov.intellij.plugin.util.AnnotationMatcher;
 import de.plushnikov.intellij.plugin.util.*;
 import lombok.Data;
 import lombok.Getter;
@@ -12,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.*;
 
 public class JPAEqualsAndHashCodeToStringHandler {
+  private static final AnnotationMatcher GETTER_ANNOTATIONS = AnnotationMatcher.of(Data.class, Value.class, Getter.class);
 
   private static final String TO_STRING_RANK_ANNOTATION_PARAMETER = "rank";
 
@@ -206,7 +208,7 @@ public class JPAEqualsAndHashCodeToStringHandler {
       final String getterName = LombokUtils.getGetterName(classField);
 
       final boolean hasGetter;
-      @SuppressWarnings("unchecked") final boolean annotatedWith = PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Data.class, Value.class, Getter.class);
+      final boolean annotatedWith = PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, GETTER_ANNOTATIONS);
       if (annotatedWith) {
         final PsiAnnotation getterLombokAnnotation = PsiAnnotationSearchUtil.findAnnotation(psiClass, Getter.class);
         hasGetter = null == getterLombokAnnotation || null != LombokProcessorUtil.getMethodModifier(getterLombokAnnotation);
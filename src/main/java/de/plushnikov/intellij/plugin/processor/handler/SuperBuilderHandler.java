@@ -102,7 +102,7 @@ public class SuperBuilderHandler extends BuilderHandler {
     } else {
       codeBlock = buildMethodPrepare;
     }
-    constructorBuilderBased.withBody(PsiMethodUtil.createCodeBlockFromText(codeBlock, constructorBuilderBased));
+    constructorBuilderBased.withBody(() -> PsiMethodUtil.createCodeBlockFromText(codeBlock, constructorBuilderBased));
 
     return Optional.of(constructorBuilderBased);
   }
@@ -126,7 +126,7 @@ public class SuperBuilderHandler extends BuilderHandler {
     addTypeParameters(containingClass, null, methodBuilder);
 
     final String blockText = String.format("return new %s();", PsiClassUtil.getTypeWithGenerics(builderImplClass).getPresentableText());
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
 
     return Optional.of(methodBuilder);
   }
@@ -148,7 +148,7 @@ public class SuperBuilderHandler extends BuilderHandler {
 
     final String blockText = String.format("return new %s().%s(this);",
       PsiClassUtil.getTypeWithGenerics(builderImplClass).getPresentableText(), FILL_VALUES_METHOD_NAME);
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
 
     return Optional.of(methodBuilder);
   }
@@ -303,7 +303,7 @@ public class SuperBuilderHandler extends BuilderHandler {
           .map(BuilderInfo::renderToBuilderCall)
           .collect(Collectors.joining(';' + BUILDER_VARIABLE_NAME + '.', BUILDER_VARIABLE_NAME + '.', ";\n"));
 
-        methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(toBuilderMethodCalls, methodBuilder));
+        methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(toBuilderMethodCalls, methodBuilder));
         result.add(methodBuilder);
       }
 
@@ -319,7 +319,7 @@ public class SuperBuilderHandler extends BuilderHandler {
         final String callSuperCode = "super." + FILL_VALUES_METHOD_NAME + "(" + INSTANCE_VARIABLE_NAME + ");\n";
         final String codeBlockText = String.format("%s%s.%s(%s, this);\nreturn self();", forceCallSuper ? callSuperCode : "",
           baseClassBuilder.getName(), STATIC_FILL_VALUES_METHOD_NAME, INSTANCE_VARIABLE_NAME);
-        methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder));
+        methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(codeBlockText, methodBuilder));
 
         result.add(methodBuilder);
       }
@@ -395,7 +395,7 @@ public class SuperBuilderHandler extends BuilderHandler {
         .withContainingClass(implBuilderClass)
         .withNavigationElement(psiClass)
         .withModifier(PsiModifier.PRIVATE);
-      privateConstructor.withBody(PsiMethodUtil.createCodeBlockFromText("", privateConstructor));
+      privateConstructor.withBody(() -> PsiMethodUtil.createCodeBlockFromText("", privateConstructor));
       result.add(privateConstructor);
     }
 
@@ -406,7 +406,7 @@ public class SuperBuilderHandler extends BuilderHandler {
         .withContainingClass(implBuilderClass)
         .withNavigationElement(psiClass)
         .withModifier(PsiModifier.PROTECTED);
-      selfMethod.withBody(PsiMethodUtil.createCodeBlockFromText("return this;", selfMethod));
+      selfMethod.withBody(() -> PsiMethodUtil.createCodeBlockFromText("return this;", selfMethod));
       result.add(selfMethod);
     }
 
@@ -423,7 +423,7 @@ public class SuperBuilderHandler extends BuilderHandler {
         .withNavigationElement(psiClass)
         .withModifier(PsiModifier.PUBLIC);
       final String buildCodeBlockText = String.format("return new %s(this);", PsiClassUtil.getTypeWithGenerics(psiClass).getPresentableText());
-      buildMethod.withBody(PsiMethodUtil.createCodeBlockFromText(buildCodeBlockText, buildMethod));
+      buildMethod.withBody(() -> PsiMethodUtil.createCodeBlockFromText(buildCodeBlockText, buildMethod));
       result.add(buildMethod);
     }
 
@@ -70,7 +70,7 @@ public abstract class AbstractSingularHandler implements BuilderElementHandler {
     addOneMethodParameter(oneAddMethodBuilder, info.getFieldType(), singularName);
 
     final String oneMethodBody = getOneMethodBody(singularName, info);
-    oneAddMethodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(oneMethodBody, oneAddMethodBuilder));
+    oneAddMethodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(oneMethodBody, oneAddMethodBuilder));
 
     methods.add(oneAddMethodBuilder);
 
@@ -84,7 +84,7 @@ public abstract class AbstractSingularHandler implements BuilderElementHandler {
     addAllMethodParameter(allAddMethodBuilder, info.getFieldType(), fieldName);
 
     final String allMethodBody = getAllMethodBody(fieldName, info);
-    allAddMethodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(allMethodBody, allAddMethodBuilder));
+    allAddMethodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(allMethodBody, allAddMethodBuilder));
 
     methods.add(allAddMethodBuilder);
 
@@ -95,7 +95,7 @@ public abstract class AbstractSingularHandler implements BuilderElementHandler {
       .withModifier(info.getVisibilityModifier())
       .withAnnotations(info.getAnnotations());
     final String clearMethodBlockText = getClearMethodBody(info);
-    clearMethodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(clearMethodBlockText, clearMethodBuilder));
+    clearMethodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(clearMethodBlockText, clearMethodBuilder));
 
     methods.add(clearMethodBuilder);
 
@@ -38,7 +38,7 @@ class NonSingularHandler implements BuilderElementHandler {
       .withNavigationElement(info.getVariable())
       .withModifier(info.getVisibilityModifier())
       .withAnnotations(info.getAnnotations());
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
     return Collections.singleton(methodBuilder);
   }
 
@@ -10,6 +10,7 @@ import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.util.PsiTreeUtil;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigDiscovery;
 import de.plushnikov.intellij.plugin.lombokconfig.ConfigKey;
+import de.plushnikov.intellij.plugin.lombokconfig.ResolvedConfig;
 import de.plushnikov.intellij.plugin.psi.LombokLightFieldBuilder;
 import de.plushnikov.intellij.plugin.util.LombokProcessorUtil;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
@@ -61,8 +62,9 @@ public class FieldDefaultsModifierProcessor implements ModifierProcessor {
     }
 
     @Nullable final PsiAnnotation fieldDefaultsAnnotation = PsiAnnotationSearchUtil.findAnnotation(searchableClass, lombok.experimental.FieldDefaults.class);
-    final boolean isConfigDefaultFinal = isConfigDefaultFinal(searchableClass);
-    final boolean isConfigDefaultPrivate = isConfigDefaultPrivate(searchableClass);
+    final ResolvedConfig resolvedConfig = configDiscovery.getResolvedConfig(searchableClass);
+    final boolean isConfigDefaultFinal = isConfigDefaultFinal(resolvedConfig);
+    final boolean isConfigDefaultPrivate = isConfigDefaultPrivate(resolvedConfig);
 
     final PsiField parentField = (PsiField) modifierList.getParent();
 
@@ -92,17 +94,19 @@ public class FieldDefaultsModifierProcessor implements ModifierProcessor {
   }
 
   private boolean canBeAffected(PsiClass searchableClass) {
-    return PsiAnnotationSearchUtil.isAnnotatedWith(searchableClass, lombok.experimental.FieldDefaults.class)
-      || isConfigDefaultFinal(searchableClass)
-      || isConfigDefaultPrivate(searchableClass);
+    if (PsiAnnotationSearchUtil.isAnnotatedWith(searchableClass, lombok.experimental.FieldDefaults.class)) {
+      return true;
+    }
+    final ResolvedConfig resolvedConfig = configDiscovery.getResolvedConfig(searchableClass);
+    return isConfigDefaultFinal(resolvedConfig) || isConfigDefaultPrivate(resolvedConfig);
   }
 
-  private boolean isConfigDefaultFinal(PsiClass searchableClass) {
-    return configDiscovery.getBooleanLombokConfigProperty(ConfigKey.FIELDDEFAULTS_FINAL, searchableClass);
+  private boolean isConfigDefaultFinal(ResolvedConfig resolvedConfig) {
+    return resolvedConfig.getBooleanValue(ConfigKey.FIELDDEFAULTS_FINAL);
   }
 
-  private boolean isConfigDefaultPrivate(PsiClass searchableClass) {
-    return configDiscovery.getBooleanLombokConfigProperty(ConfigKey.FIELDDEFAULTS_PRIVATE, searchableClass);
+  private boolean isConfigDefaultPrivate(ResolvedConfig resolvedConfig) {
+    return resolvedConfig.getBooleanValue(ConfigKey.FIELDDEFAULTS_PRIVATE);
   }
 
   private boolean shouldMakeFinal(@NotNull PsiField parentField, @Nullable PsiAnnotation fieldDefaultsAnnotation, boolean isConfigDefaultFinal) {
@@ -1,7 +1,13 @@
 package de.plushnikov.intellij.plugin.provider;
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressIndicatorProvider;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.RecursionGuard;
 import com.intellij.openapi.util.RecursionManager;
@@ -16,11 +22,16 @@ import com.intellij.psi.augment.PsiAugmentProvider;
 import com.intellij.psi.impl.source.PsiExtensibleClass;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import de.plushnikov.intellij.plugin.lombokconfig.LombokConfigChangeTracker;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
 import de.plushnikov.intellij.plugin.processor.LombokProcessorManager;
 import de.plushnikov.intellij.plugin.processor.Processor;
 import de.plushnikov.intellij.plugin.processor.ValProcessor;
 import de.plushnikov.intellij.plugin.processor.modifier.ModifierProcessor;
 import de.plushnikov.intellij.plugin.settings.ProjectSettings;
+import de.plushnikov.intellij.plugin.util.LombokFileUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,13 +43,22 @@ import java.util.List;
 import java.util.Set;
 
 /**
- * Provides support for lombok generated elements
+ * Provides support for lombok generated elements.
+ * In dumb mode only processors marked as {@link DumbAware} run, using default lombok.config values. Their degraded
+ * results are cached until dumb mode ends, then everything is generated again by all processors.
  *
  * @author Plushnikov Michail
  */
-public class LombokAugmentProvider extends PsiAugmentProvider {
+public class LombokAugmentProvider extends PsiAugmentProvider implements DumbAware {
   private static final Logger log = Logger.getInstance(LombokAugmentProvider.class.getName());
 
+  private static final RecursionGuard<PsiClass> ourSnapshotGuard = RecursionManager.createGuard("lombok.augment.snapshot");
+  private static final RecursionGuard<PsiClass> ourFieldGuard = RecursionManager.createGuard("lombok.augment.field");
+  private static final RecursionGuard<PsiClass> ourMethodGuard = RecursionManager.createGuard("lombok.augment.method");
+  private static final RecursionGuard<PsiClass> ourClassGuard = RecursionManager.createGuard("lombok.augment.class");
+
+  private static final int MIN_PARALLEL_PROCESSORS = 3;
+
   private final ValProcessor valProcessor;
   private final Collection<ModifierProcessor> modifierProcessors;
 
@@ -55,9 +75,10 @@ public class LombokAugmentProvider extends PsiAugmentProvider {
     // make copy of original modifiers
     Set<String> result = new HashSet<>(modifiers);
 
+    final boolean dumb = DumbService.isDumb(modifierList.getProject());
     // Loop through all available processors and give all of them a chance to respond
     for (ModifierProcessor processor : modifierProcessors) {
-      if (processor.isSupported(modifierList)) {
+      if (isAvailable(processor, dumb) && processor.isSupported(modifierList)) {
         processor.transformModifiers(modifierList, result);
       }
     }
@@ -68,7 +89,7 @@ public class LombokAugmentProvider extends PsiAugmentProvider {
   @Nullable
   @Override
   protected PsiType inferType(@NotNull PsiTypeElement typeElement) {
-    if (!valProcessor.isEnabled(typeElement.getProject())) {
+    if (DumbService.isDumb(typeElement.getProject()) || !valProcessor.isEnabled(typeElement.getProject())) {
       return null;
     }
     return valProcessor.inferType(typeElement);
@@ -96,75 +117,196 @@ public class LombokAugmentProvider extends PsiAugmentProvider {
     if (!ProjectSettings.isLombokEnabledInProject(project)) {
       return emptyResult;
     }
+    // skip processing of files without any lombok reference
+    if (!LombokFileUtil.mayUseLombok(psiClass)) {
+      return emptyResult;
+    }
 
-    final List<Psi> cachedValue;
+    LombokMetrics.recordCacheRequest(LombokMetrics.AUGMENT_CACHE);
+    final LombokAugmentSnapshot snapshot = CachedValuesManager.getCachedValue(psiClass, new SnapshotLombokCachedValueProvider(psiClass));
+    if (null != snapshot) {
+      return snapshot.getAugments(type);
+    }
+
+    // Snapshot of this class is currently being computed, e.g. a method processor asked for the fields of the same class.
+    // Compute only the requested type directly, without caching, to keep this nested request consistent
+    final List<Psi> result = getRecursionGuard(type).doPreventingRecursion(psiClass, true, () -> getPsis(psiClass, type));
+    return null != result ? result : emptyResult;
+  }
+
+  @NotNull
+  private static RecursionGuard<PsiClass> getRecursionGuard(@NotNull Class<?> type) {
     if (type == PsiField.class) {
-      cachedValue = CachedValuesManager.getCachedValue(element, new FieldLombokCachedValueProvider<>(type, psiClass));
+      return ourFieldGuard;
     } else if (type == PsiMethod.class) {
-      cachedValue = CachedValuesManager.getCachedValue(element, new MethodLombokCachedValueProvider<>(type, psiClass));
+      return ourMethodGuard;
     } else {
-      cachedValue = CachedValuesManager.getCachedValue(element, new ClassLombokCachedValueProvider<>(type, psiClass));
+      return ourClassGuard;
     }
-    return null != cachedValue ? cachedValue : emptyResult;
   }
 
-  private static class FieldLombokCachedValueProvider<Psi extends PsiElement> extends LombokCachedValueProvider<Psi> {
-    private static final RecursionGuard<PsiClass> ourGuard = RecursionManager.createGuard("lombok.augment.field");
+  private static class SnapshotLombokCachedValueProvider implements CachedValueProvider<LombokAugmentSnapshot> {
+    private final PsiClass psiClass;
 
-    FieldLombokCachedValueProvider(Class<Psi> type, PsiClass psiClass) {
-      super(type, psiClass, ourGuard);
+    SnapshotLombokCachedValueProvider(PsiClass psiClass) {
+      this.psiClass = psiClass;
+    }
+
+    @Nullable
+    @Override
+    public Result<LombokAugmentSnapshot> compute() {
+      return ourSnapshotGuard.doPreventingRecursion(psiClass, true, this::computeIntern);
     }
-  }
 
-  private static class MethodLombokCachedValueProvider<Psi extends PsiElement> extends LombokCachedValueProvider<Psi> {
-    private static final RecursionGuard<PsiClass> ourGuard = RecursionManager.createGuard("lombok.augment.method");
+    private Result<LombokAugmentSnapshot> computeIntern() {
+      LombokMetrics.recordCacheMiss(LombokMetrics.AUGMENT_CACHE);
+      final DumbService dumbService = DumbService.getInstance(psiClass.getProject());
+      final LombokConfigChangeTracker configChangeTracker = LombokConfigChangeTracker.getInstance(psiClass.getProject());
+      if (dumbService.isDumb()) {
+        // degraded snapshot, recomputed as soon as dumb mode ends
+        final List<Processor> lombokProcessors = getAvailableProcessors(psiClass, true);
+        return Result.create(getSnapshot(psiClass, lombokProcessors, true), getDependency(psiClass), configChangeTracker, dumbService.getModificationTracker());
+      }
 
-    MethodLombokCachedValueProvider(Class<Psi> type, PsiClass psiClass) {
-      super(type, psiClass, ourGuard);
+      final List<Processor> lombokProcessors = getAvailableProcessors(psiClass, false);
+      final LombokSignatureCache signatureCache = LombokSignatureCache.getInstance();
+      final String signatureDigest = signatureCache.isFirstComputation(psiClass) ? signatureCache.computeDigest(psiClass, lombokProcessors) : null;
+      if (null != signatureDigest) {
+        final LombokAugmentSnapshot restoredSnapshot = signatureCache.restore(psiClass, signatureDigest,
+          () -> ourSnapshotGuard.doPreventingRecursion(psiClass, true, () -> getSnapshot(psiClass, lombokProcessors, false)));
+        if (null != restoredSnapshot) {
+          return Result.create(restoredSnapshot, getDependency(psiClass), configChangeTracker);
+        }
+      }
+
+      final LombokAugmentSnapshot result = getSnapshot(psiClass, lombokProcessors, false);
+      if (null != signatureDigest) {
+        signatureCache.store(psiClass, signatureDigest, result);
+      }
+      return Result.create(result, getDependency(psiClass), configChangeTracker);
     }
   }
 
-  private static class ClassLombokCachedValueProvider<Psi extends PsiElement> extends LombokCachedValueProvider<Psi> {
-    private static final RecursionGuard<PsiClass> ourGuard = RecursionManager.createGuard("lombok.augment.class");
-
-    ClassLombokCachedValueProvider(Class<Psi> type, PsiClass psiClass) {
-      super(type, psiClass, ourGuard);
+  /**
+   * Lombok generated members depend only on declarations (fields, annotations, modifiers, method signatures, inner classes)
+   * and on lombok.config, which all are changes out of code blocks (lombok.config is tracked on its own as well).
+   * So typing inside of method bodies keeps the previously generated elements. Local and anonymous classes are part
+   * of a code block themselves, and changes of non-physical copies are not tracked globally, so these still depend
+   * on their containing file.
+   */
+  @NotNull
+  public static Object getDependency(@NotNull PsiClass psiClass) {
+    if (!psiClass.isPhysical()) {
+      return psiClass;
+    }
+    for (PsiClass currentClass = psiClass; null != currentClass; currentClass = currentClass.getContainingClass()) {
+      if (PsiUtil.isLocalOrAnonymousClass(currentClass)) {
+        return psiClass;
+      }
     }
+    return PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT;
   }
 
-  private abstract static class LombokCachedValueProvider<Psi extends PsiElement> implements CachedValueProvider<List<Psi>> {
-    private final Class<Psi> type;
-    private final PsiClass psiClass;
-    private final RecursionGuard<PsiClass> recursionGuard;
+  @NotNull
+  private static LombokAugmentSnapshot getSnapshot(@NotNull PsiClass psiClass, @NotNull List<Processor> lombokProcessors, boolean dumb) {
+    final List<List<? super PsiElement>> generatedElements = new ArrayList<>(Collections.nCopies(lombokProcessors.size(), null));
 
-    LombokCachedValueProvider(Class<Psi> type, PsiClass psiClass, RecursionGuard<PsiClass> recursionGuard) {
-      this.type = type;
-      this.psiClass = psiClass;
-      this.recursionGuard = recursionGuard;
+    if (!dumb && lombokProcessors.size() >= MIN_PARALLEL_PROCESSORS
+      && ProjectSettings.isEnabled(psiClass.getProject(), ProjectSettings.IS_PARALLEL_PROCESSING_ENABLED, false)) {
+      processConcurrently(psiClass, lombokProcessors, generatedElements);
     }
 
-    @Nullable
-    @Override
-    public Result<List<Psi>> compute() {
-//      return compute2();
-      return recursionGuard.doPreventingRecursion(psiClass, true, this::computeIntern);
+    final LombokAugmentSnapshot.Builder builder = new LombokAugmentSnapshot.Builder();
+    for (int i = 0; i < lombokProcessors.size(); i++) {
+      final Processor processor = lombokProcessors.get(i);
+      List<? super PsiElement> processorElements = generatedElements.get(i);
+      if (null == processorElements) {
+        ProgressManager.checkCanceled();
+        processorElements = dumb ? processInDumbMode(processor, psiClass) : process(processor, psiClass);
+      }
+      builder.add(processor.getSupportedClass(), processorElements);
     }
+    return builder.build();
+  }
 
-    private Result<List<Psi>> computeIntern() {
-//      final String message = String.format("Process call for type: %s class: %s", type.getSimpleName(), psiClass.getQualifiedName());
-//      log.info(">>>" + message);
-      final List<Psi> result = getPsis(psiClass, type);
-//      log.info("<<<" + message);
-      return Result.create(result, psiClass);
+  /**
+   * Runs all processors on the shared job pool under the read action of the caller, every result is stored at the index
+   * of its processor, so merging stays in processor order. Every worker marks the class as being computed, like the calling
+   * thread does, so nested augment requests of processors behave exactly as in sequential processing.
+   * Recursion prevention is tracked per thread, the calling thread wouldn't know about one hit on a worker and would cache
+   * a partial result. So results of workers which hit a prevention are dropped as well.
+   * Processors not finished (e.g. because a write action is pending) stay null and are processed sequentially afterwards.
+   */
+  private static void processConcurrently(@NotNull PsiClass psiClass, @NotNull List<Processor> lombokProcessors,
+                                          @NotNull List<List<? super PsiElement>> target) {
+    final List<Integer> indexes = new ArrayList<>(lombokProcessors.size());
+    for (int i = 0; i < lombokProcessors.size(); i++) {
+      indexes.add(i);
     }
+
+    final Thread callingThread = Thread.currentThread();
+    JobLauncher.getInstance().invokeConcurrentlyUnderProgress(indexes, ProgressIndicatorProvider.getGlobalProgressIndicator(), index -> {
+      final Processor processor = lombokProcessors.get(index);
+      final List<? super PsiElement> processorElements;
+      if (Thread.currentThread() == callingThread) {
+        // calling thread takes part in the work and already holds the guard
+        processorElements = process(processor, psiClass);
+      } else {
+        final RecursionGuard.StackStamp stackStamp = RecursionManager.markStack();
+        final List<? super PsiElement> workerElements = ourSnapshotGuard.doPreventingRecursion(psiClass, true, () -> process(processor, psiClass));
+        processorElements = stackStamp.mayCacheNow() ? workerElements : null;
+      }
+      target.set(index, processorElements);
+      return true;
+    });
+  }
+
+  @NotNull
+  private static List<Processor> getAvailableProcessors(@NotNull PsiClass psiClass, boolean dumb) {
+    final Collection<Processor> lombokProcessors = LombokProcessorProvider.getInstance(psiClass.getProject()).getLombokProcessors(psiClass);
+    final List<Processor> result = new ArrayList<>(lombokProcessors.size());
+    for (Processor processor : lombokProcessors) {
+      if (isAvailable(processor, dumb)) {
+        result.add(processor);
+      }
+    }
+    return result;
+  }
+
+  private static boolean isAvailable(@NotNull Object processor, boolean dumb) {
+    return !dumb || DumbService.isDumbAware(processor);
+  }
+
+  /**
+   * Dumb aware processors work on annotation texts, imports and declared types only, but some validations may still need
+   * an index, e.g. to resolve a super class. Such a processor contributes nothing until dumb mode ends.
+   */
+  @NotNull
+  private static List<? super PsiElement> processInDumbMode(@NotNull Processor processor, @NotNull PsiClass psiClass) {
+    try {
+      return process(processor, psiClass);
+    } catch (IndexNotReadyException e) {
+      return Collections.emptyList();
+    }
+  }
+
+  @NotNull
+  private static List<? super PsiElement> process(@NotNull Processor processor, @NotNull PsiClass psiClass) {
+    final long startNanos = LombokMetrics.startTiming();
+    final List<? super PsiElement> generatedElements = processor.process(psiClass);
+    LombokMetrics.stopTiming(LombokMetrics.PROCESSOR, processor.getClass(), startNanos);
+    return generatedElements;
   }
 
   @NotNull
   private static <Psi extends PsiElement> List<Psi> getPsis(PsiClass psiClass, Class<Psi> type) {
     final List<Psi> result = new ArrayList<>();
-    final Collection<Processor> lombokProcessors = LombokProcessorProvider.getInstance(psiClass.getProject()).getLombokProcessors(type);
-    for (Processor processor : lombokProcessors) {
-      final List<? super PsiElement> generatedElements = processor.process(psiClass);
+    final boolean dumb = DumbService.isDumb(psiClass.getProject());
+    for (Processor processor : getAvailableProcessors(psiClass, dumb)) {
+      if (processor.getSupportedClass() != type) {
+        continue;
+      }
+      final List<? super PsiElement> generatedElements = dumb ? processInDumbMode(processor, psiClass) : process(processor, psiClass);
       for (Object psiElement : generatedElements) {
         result.add((Psi) psiElement);
       }
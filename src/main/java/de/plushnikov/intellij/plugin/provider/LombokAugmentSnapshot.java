@@ -0,0 +1,71 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * All lombok generated fields, methods and inner classes of one class, computed together in a single pass
+ * over all registered processors and sliced by requested type afterwards.
+ */
+class LombokAugmentSnapshot {
+  static final LombokAugmentSnapshot EMPTY = new LombokAugmentSnapshot(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+  private final List<PsiField> fields;
+  private final List<PsiMethod> methods;
+  private final List<PsiClass> classes;
+
+  private LombokAugmentSnapshot(@NotNull List<PsiField> fields, @NotNull List<PsiMethod> methods, @NotNull List<PsiClass> classes) {
+    this.fields = fields;
+    this.methods = methods;
+    this.classes = classes;
+  }
+
+  @NotNull
+  @SuppressWarnings("unchecked")
+  <Psi extends PsiElement> List<Psi> getAugments(@NotNull Class<Psi> type) {
+    final List<? extends PsiElement> result;
+    if (type == PsiField.class) {
+      result = fields;
+    } else if (type == PsiMethod.class) {
+      result = methods;
+    } else if (type == PsiClass.class) {
+      result = classes;
+    } else {
+      result = Collections.emptyList();
+    }
+    return (List<Psi>) result;
+  }
+
+  static class Builder {
+    private final List<PsiField> fields = new ArrayList<>();
+    private final List<PsiMethod> methods = new ArrayList<>();
+    private final List<PsiClass> classes = new ArrayList<>();
+
+    void add(@NotNull Class<? extends PsiElement> supportedClass, @NotNull List<? super PsiElement> generatedElements) {
+      for (Object psiElement : generatedElements) {
+        if (supportedClass == PsiField.class) {
+          fields.add((PsiField) psiElement);
+        } else if (supportedClass == PsiMethod.class) {
+          methods.add((PsiMethod) psiElement);
+        } else if (supportedClass == PsiClass.class) {
+          classes.add((PsiClass) psiElement);
+        }
+      }
+    }
+
+    @NotNull
+    LombokAugmentSnapshot build() {
+      if (fields.isEmpty() && methods.isEmpty() && classes.isEmpty()) {
+        return EMPTY;
+      }
+      return new LombokAugmentSnapshot(fields, methods, classes);
+    }
+  }
+}
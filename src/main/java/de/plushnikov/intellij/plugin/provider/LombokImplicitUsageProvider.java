@@ -4,6 +4,7 @@ import com.intellij.codeInsight.daemon.ImplicitUsageProvider;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import de.plushnikov.intellij.plugin.processor.LombokPsiElementUsage;
+import de.plushnikov.intellij.plugin.util.LombokFileUtil;
 
 import java.util.Collection;
 
@@ -29,7 +30,7 @@ public class LombokImplicitUsageProvider implements ImplicitUsageProvider {
 
   private boolean checkUsage(PsiElement element, LombokPsiElementUsage elementUsage) {
     boolean result = false;
-    if (element instanceof PsiField) {
+    if (element instanceof PsiField && LombokFileUtil.mayUseLombok(element)) {
       final LombokProcessorProvider processorProvider = LombokProcessorProvider.getInstance(element.getProject());
       final Collection<LombokProcessorData> applicableProcessors = processorProvider.getApplicableProcessors((PsiField) element);
 
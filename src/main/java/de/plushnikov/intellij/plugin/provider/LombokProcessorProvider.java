@@ -3,6 +3,7 @@ package de.plushnikov.intellij.plugin.provider;
 import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -10,6 +11,8 @@ import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import de.plushnikov.intellij.plugin.processor.LombokProcessorManager;
 import de.plushnikov.intellij.plugin.processor.Processor;
 import de.plushnikov.intellij.plugin.util.PsiAnnotationSearchUtil;
@@ -18,10 +21,15 @@ import org.jetbrains.annotations.NotNull;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 public class LombokProcessorProvider {
 
@@ -33,18 +41,16 @@ public class LombokProcessorProvider {
 
   private final PropertiesComponent myPropertiesComponent;
 
-  private final Map<Class, Collection<Processor>> lombokTypeProcessors;
-  private final Map<String, Collection<Processor>> lombokProcessors;
-  private final Collection<String> registeredAnnotationNames;
+  private final SimpleModificationTracker registrationModificationTracker;
+  private volatile Registration registration;
 
   private boolean alreadyInitialized;
 
   public LombokProcessorProvider(@NotNull PropertiesComponent propertiesComponent) {
     myPropertiesComponent = propertiesComponent;
 
-    lombokProcessors = new ConcurrentHashMap<>();
-    lombokTypeProcessors = new ConcurrentHashMap<>();
-    registeredAnnotationNames = ConcurrentHashMap.newKeySet();
+    registrationModificationTracker = new SimpleModificationTracker();
+    registration = Registration.EMPTY;
   }
 
   private void checkInitialized() {
@@ -54,10 +60,13 @@ public class LombokProcessorProvider {
     }
   }
 
+  /**
+   * Registers all enabled processors. Readers always see either the previous or the new registration completely,
+   * the modification tracker is bumped only after the new one is published.
+   */
   public void initProcessors() {
-    lombokProcessors.clear();
-    lombokTypeProcessors.clear();
-    registeredAnnotationNames.clear();
+    final Map<String, Collection<Processor>> lombokProcessors = new HashMap<>();
+    final List<Processor> allLombokProcessors = new ArrayList<>();
 
     for (Processor processor : LombokProcessorManager.getLombokProcessors()) {
       if (processor.isEnabled(myPropertiesComponent)) {
@@ -68,22 +77,144 @@ public class LombokProcessorProvider {
           putProcessor(lombokProcessors, annotationClass.getSimpleName(), processor);
         }
 
-        putProcessor(lombokTypeProcessors, processor.getSupportedClass(), processor);
+        allLombokProcessors.add(processor);
       }
     }
 
-    registeredAnnotationNames.addAll(lombokProcessors.keySet());
+    registration = new Registration(lombokProcessors, allLombokProcessors);
+    registrationModificationTracker.incModificationCount();
   }
 
+  /**
+   * Immutable set of registered processors: every registered annotation name has an index into the processors for it
+   */
+  private static final class Registration {
+    private static final Registration EMPTY = new Registration(Collections.emptyMap(), Collections.emptyList());
+
+    private final Map<String, Collection<Processor>> lombokProcessors;
+    private final List<Processor> allLombokProcessors;
+    private final Map<String, Integer> registeredAnnotationIndexes;
+    private final List<Collection<Processor>> indexedLombokProcessors;
+
+    private Registration(@NotNull Map<String, Collection<Processor>> lombokProcessors, @NotNull List<Processor> allLombokProcessors) {
+      final Map<String, Collection<Processor>> processorsByName = new HashMap<>();
+      final Map<String, Integer> annotationIndexes = new HashMap<>();
+      final List<Collection<Processor>> indexedProcessors = new ArrayList<>();
+      for (Map.Entry<String, Collection<Processor>> entry : lombokProcessors.entrySet()) {
+        final Collection<Processor> processors = Collections.unmodifiableCollection(entry.getValue());
+        processorsByName.put(entry.getKey(), processors);
+        annotationIndexes.put(entry.getKey(), indexedProcessors.size());
+        indexedProcessors.add(processors);
+      }
+
+      this.lombokProcessors = Collections.unmodifiableMap(processorsByName);
+      this.allLombokProcessors = Collections.unmodifiableList(new ArrayList<>(allLombokProcessors));
+      this.registeredAnnotationIndexes = Collections.unmodifiableMap(annotationIndexes);
+      this.indexedLombokProcessors = Collections.unmodifiableList(indexedProcessors);
+    }
+  }
+
+  /**
+   * Indexes of the registered annotations used by a class, together with the registration these indexes belong to
+   */
+  private static final class AnnotationSummary {
+    private final Registration registration;
+    private final BitSet annotationIndexes;
+
+    private AnnotationSummary(@NotNull Registration registration, @NotNull BitSet annotationIndexes) {
+      this.registration = registration;
+      this.annotationIndexes = annotationIndexes;
+    }
+
+    boolean isEmpty() {
+      return annotationIndexes.isEmpty();
+    }
+
+    void collectProcessors(@NotNull Collection<Processor> target) {
+      for (int index = annotationIndexes.nextSetBit(0); index >= 0; index = annotationIndexes.nextSetBit(index + 1)) {
+        target.addAll(registration.indexedLombokProcessors.get(index));
+      }
+    }
+  }
+
+  /**
+   * Selects processors which may generate something for the given class by looking at simple names of annotations
+   * of the class, its fields and methods, and of its containing class and its members (used by predefined builder or
+   * field name classes), without resolving any of them.
+   *
+   * @param psiClass class to collect processors for
+   * @return candidate processors in registration order
+   */
   @NotNull
-  Collection<Processor> getLombokProcessors(@NotNull Class supportedClass) {
-    return lombokTypeProcessors.computeIfAbsent(supportedClass, k -> ConcurrentHashMap.newKeySet());
+  Collection<Processor> getLombokProcessors(@NotNull PsiClass psiClass) {
+    final Registration currentRegistration = registration;
+
+    // each summary is mapped with the registration it was computed with, it may be an older one
+    final Set<Processor> candidates = new HashSet<>();
+    getAnnotationSummary(psiClass).collectProcessors(candidates);
+    final PsiElement psiClassParent = psiClass.getParent();
+    if (psiClassParent instanceof PsiClass) {
+      getAnnotationSummary((PsiClass) psiClassParent).collectProcessors(candidates);
+    }
+    if (candidates.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final List<Processor> result = new ArrayList<>(candidates.size());
+    for (Processor processor : currentRegistration.allLombokProcessors) {
+      if (candidates.contains(processor)) {
+        result.add(processor);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Summary of all registered annotations used on the class itself, its fields and its methods: every set bit is the
+   * index of one registered annotation name. Cached per class until the next change of declarations or of registered processors.
+   */
+  @NotNull
+  private AnnotationSummary getAnnotationSummary(@NotNull PsiClass psiClass) {
+    return CachedValuesManager.getCachedValue(psiClass, new AnnotationSummaryCachedValueProvider(psiClass, this));
+  }
+
+  private static class AnnotationSummaryCachedValueProvider implements CachedValueProvider<AnnotationSummary> {
+    private final PsiClass psiClass;
+    private final LombokProcessorProvider processorProvider;
+
+    AnnotationSummaryCachedValueProvider(PsiClass psiClass, LombokProcessorProvider processorProvider) {
+      this.psiClass = psiClass;
+      this.processorProvider = processorProvider;
+    }
+
+    @Override
+    public Result<AnnotationSummary> compute() {
+      final Registration registration = processorProvider.registration;
+      final Collection<String> annotationNames = new HashSet<>();
+      PsiAnnotationSearchUtil.collectAnnotationsSimpleNames(psiClass, annotationNames);
+      for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
+        PsiAnnotationSearchUtil.collectAnnotationsSimpleNames(psiField, annotationNames);
+      }
+      for (PsiMethod psiMethod : PsiClassUtil.collectClassMethodsIntern(psiClass)) {
+        PsiAnnotationSearchUtil.collectAnnotationsSimpleNames(psiMethod, annotationNames);
+      }
+
+      final BitSet result = new BitSet();
+      for (String annotationName : annotationNames) {
+        final Integer index = registration.registeredAnnotationIndexes.get(annotationName);
+        if (null != index) {
+          result.set(index);
+        }
+      }
+      return Result.create(new AnnotationSummary(registration, result), LombokAugmentProvider.getDependency(psiClass),
+        processorProvider.registrationModificationTracker);
+    }
   }
 
   @NotNull
   public Collection<Processor> getProcessors(@NotNull PsiAnnotation psiAnnotation) {
     final String qualifiedName = psiAnnotation.getQualifiedName();
-    final Collection<Processor> result = qualifiedName == null ? null : lombokProcessors.get(qualifiedName);
+    final Collection<Processor> result = qualifiedName == null ? null : registration.lombokProcessors.get(qualifiedName);
     return result == null ? Collections.emptySet() : result;
   }
 
@@ -103,26 +234,14 @@ public class LombokProcessorProvider {
   }
 
   private <K, V> void putProcessor(final Map<K, Collection<V>> map, final K key, final V value) {
-    Collection<V> valueList = map.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+    Collection<V> valueList = map.computeIfAbsent(key, k -> new LinkedHashSet<>());
     valueList.add(value);
   }
 
   private boolean verifyLombokAnnotationPresent(@NotNull PsiClass psiClass) {
-    if (PsiAnnotationSearchUtil.checkAnnotationsSimpleNameExistsIn(psiClass, registeredAnnotationNames)) {
+    if (!getAnnotationSummary(psiClass).isEmpty()) {
       return true;
     }
-    Collection<PsiField> psiFields = PsiClassUtil.collectClassFieldsIntern(psiClass);
-    for (PsiField psiField : psiFields) {
-      if (PsiAnnotationSearchUtil.checkAnnotationsSimpleNameExistsIn(psiField, registeredAnnotationNames)) {
-        return true;
-      }
-    }
-    Collection<PsiMethod> psiMethods = PsiClassUtil.collectClassMethodsIntern(psiClass);
-    for (PsiMethod psiMethod : psiMethods) {
-      if (PsiAnnotationSearchUtil.checkAnnotationsSimpleNameExistsIn(psiMethod, registeredAnnotationNames)) {
-        return true;
-      }
-    }
     final PsiElement psiClassParent = psiClass.getParent();
     if (psiClassParent instanceof PsiClass) {
       return verifyLombokAnnotationPresent((PsiClass) psiClassParent);
@@ -132,7 +251,7 @@ public class LombokProcessorProvider {
   }
 
   private boolean verifyLombokAnnotationPresent(@NotNull PsiMember psiMember) {
-    if (PsiAnnotationSearchUtil.checkAnnotationsSimpleNameExistsIn(psiMember, registeredAnnotationNames)) {
+    if (PsiAnnotationSearchUtil.checkAnnotationsSimpleNameExistsIn(psiMember, registration.registeredAnnotationIndexes.keySet())) {
       return true;
     }
 
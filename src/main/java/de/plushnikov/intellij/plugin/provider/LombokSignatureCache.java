@@ -0,0 +1,562 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.UserDataHolderEx;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.impl.light.LightElement;
+import com.intellij.psi.impl.light.LightModifierList;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.ArrayUtil;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.PersistentHashMap;
+import de.plushnikov.intellij.plugin.Version;
+import de.plushnikov.intellij.plugin.lombokconfig.ConfigDiscovery;
+import de.plushnikov.intellij.plugin.metrics.LombokMetrics;
+import de.plushnikov.intellij.plugin.processor.Processor;
+import de.plushnikov.intellij.plugin.psi.LombokLightFieldBuilder;
+import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
+import de.plushnikov.intellij.plugin.util.PsiClassUtil;
+import de.plushnikov.intellij.plugin.util.PsiTypePool;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Persistent cache of lombok generated member signatures, surviving IDE restarts.
+ * Signatures are stored per class, together with a digest of the file content, the canonical types of the class fields,
+ * the effective lombok.config, the applicable processors and the plugin version. So after a restart unchanged classes get
+ * their members without running any processor. Only the first augment computation of a class is served from the cache,
+ * all later ones run the processors. Method bodies are recreated lazily by running the processors on first access.
+ * Only classes processed by dumb aware processors alone are cached, as their result depends on the own file, the field
+ * types and lombok.config only. Can be disabled with the system property 'lombok.signatureCache=false'.
+ */
+public class LombokSignatureCache implements Disposable {
+  private static final Logger LOG = Logger.getInstance(LombokSignatureCache.class);
+
+  public static final String ENABLED_PROPERTY = "lombok.signatureCache";
+
+  private static final int FORMAT_VERSION = 2;
+  private static final long MAX_STORAGE_SIZE = 64L * 1024 * 1024;
+  private static final Key<Boolean> COMPUTED_KEY = Key.create("lombok.signatureCache.computed");
+
+  private final boolean enabled;
+  private final File storageFile;
+  private PersistentHashMap<String, StoredSignatures> storage;
+  private boolean storageBroken;
+
+  public static LombokSignatureCache getInstance() {
+    return ServiceManager.getService(LombokSignatureCache.class);
+  }
+
+  public LombokSignatureCache() {
+    this(new File(PathManager.getSystemPath(), "lombok/signatures/signatures" + FORMAT_VERSION),
+      !ApplicationManager.getApplication().isUnitTestMode() && !"false".equals(System.getProperty(ENABLED_PROPERTY)));
+  }
+
+  LombokSignatureCache(@NotNull File storageFile, boolean enabled) {
+    this.storageFile = storageFile;
+    this.enabled = enabled;
+  }
+
+  /**
+   * The cache is used only for the first augment computation of a class (a warm start), later ones run the processors:
+   * these are cheaper than disk access and the result of a previous computation is known to be outdated.
+   *
+   * @return true only for the first call for the class
+   */
+  boolean isFirstComputation(@NotNull PsiClass psiClass) {
+    // marked atomically, concurrent computations of the same class must not both restore or store
+    return enabled && psiClass instanceof UserDataHolderEx && ((UserDataHolderEx) psiClass).replace(COMPUTED_KEY, null, Boolean.TRUE);
+  }
+
+  /**
+   * @param psiClass         class to compute the digest for
+   * @param lombokProcessors processors applicable to the class
+   * @return digest of everything the generated members depend on, or null if the class can't be cached
+   */
+  @Nullable
+  String computeDigest(@NotNull PsiClass psiClass, @NotNull Collection<Processor> lombokProcessors) {
+    if (!enabled || lombokProcessors.isEmpty() || !psiClass.isPhysical() || null == getStorageKey(psiClass)) {
+      return null;
+    }
+    final String qualifiedName = psiClass.getQualifiedName();
+    final PsiFile psiFile = psiClass.getContainingFile();
+    if (null == qualifiedName || !(psiFile instanceof PsiJavaFile)) {
+      return null;
+    }
+
+    final StringBuilder builder = new StringBuilder();
+    builder.append(FORMAT_VERSION).append('\n').append(Version.PLUGIN_VERSION).append('\n').append(qualifiedName).append('\n');
+    for (Processor processor : lombokProcessors) {
+      if (!DumbService.isDumbAware(processor)) {
+        return null;
+      }
+      builder.append(processor.getClass().getName()).append('\n');
+    }
+    builder.append(ConfigDiscovery.getInstance().getConfigFingerprint(psiClass)).append('\n');
+    // generated types are derived from the field types, which depend on other files
+    for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
+      builder.append(psiField.getType().getCanonicalText()).append('\n');
+    }
+    builder.append(CachedValuesManager.getCachedValue(psiFile, new FileDigestCachedValueProvider(psiFile)));
+    return digest(builder);
+  }
+
+  /**
+   * Entries are stored per class, so every class has one entry at most and a changed class replaces its old entry
+   */
+  @Nullable
+  private static String getStorageKey(@NotNull PsiClass psiClass) {
+    final VirtualFile virtualFile = psiClass.getContainingFile().getVirtualFile();
+    final String qualifiedName = psiClass.getQualifiedName();
+    if (null == virtualFile || null == qualifiedName) {
+      return null;
+    }
+    return virtualFile.getPath() + '!' + qualifiedName;
+  }
+
+  /**
+   * @param processedSnapshot runs the processors, used for method bodies on first access only
+   * @return restored members, or null if there are no signatures stored for the digest
+   */
+  @Nullable
+  LombokAugmentSnapshot restore(@NotNull PsiClass psiClass, @NotNull String digest,
+                                @NotNull Supplier<LombokAugmentSnapshot> processedSnapshot) {
+    LombokMetrics.recordCacheRequest(LombokMetrics.SIGNATURE_CACHE);
+    final PersistentHashMap<String, StoredSignatures> map = getStorage();
+    final String storageKey = getStorageKey(psiClass);
+    StoredSignatures storedSignatures = null;
+    if (null != map && null != storageKey) {
+      try {
+        storedSignatures = map.get(storageKey);
+      } catch (IOException e) {
+        markBroken(e);
+      }
+    }
+    if (null == storedSignatures || !digest.equals(storedSignatures.digest)) {
+      LombokMetrics.recordCacheMiss(LombokMetrics.SIGNATURE_CACHE);
+      return null;
+    }
+    return fromSignatures(psiClass, storedSignatures.signatures, processedSnapshot);
+  }
+
+  void store(@NotNull PsiClass psiClass, @NotNull String digest, @NotNull LombokAugmentSnapshot snapshot) {
+    final List<MemberSignature> signatures = toSignatures(psiClass, snapshot);
+    final PersistentHashMap<String, StoredSignatures> map = getStorage();
+    final String storageKey = getStorageKey(psiClass);
+    if (null != signatures && null != map && null != storageKey) {
+      try {
+        final StoredSignatures storedSignatures = map.get(storageKey);
+        if (null == storedSignatures || !digest.equals(storedSignatures.digest)) {
+          map.put(storageKey, new StoredSignatures(digest, signatures));
+        }
+      } catch (IOException e) {
+        markBroken(e);
+      }
+    }
+  }
+
+  @Nullable
+  private synchronized PersistentHashMap<String, StoredSignatures> getStorage() {
+    if (null == storage && !storageBroken) {
+      try {
+        storage = openStorage();
+      } catch (IOException e) {
+        LOG.info("Lombok signature cache is corrupted and will be recreated", e);
+        PersistentHashMap.deleteFilesStartingWith(storageFile);
+        try {
+          storage = openStorage();
+        } catch (IOException e1) {
+          LOG.warn("Lombok signature cache can't be created", e1);
+          storageBroken = true;
+        }
+      }
+    }
+    return storage;
+  }
+
+  @NotNull
+  private PersistentHashMap<String, StoredSignatures> openStorage() throws IOException {
+    // entries of deleted classes are never removed, so start from scratch once the cache grew too big
+    if (getStorageSize() > MAX_STORAGE_SIZE) {
+      PersistentHashMap.deleteFilesStartingWith(storageFile);
+    }
+    return new PersistentHashMap<>(storageFile, EnumeratorStringDescriptor.INSTANCE, StoredSignatures.EXTERNALIZER);
+  }
+
+  private long getStorageSize() {
+    long result = 0;
+    final File[] storageFiles = storageFile.getParentFile().listFiles((dir, name) -> name.startsWith(storageFile.getName()));
+    if (null != storageFiles) {
+      for (File file : storageFiles) {
+        result += file.length();
+      }
+    }
+    return result;
+  }
+
+  private synchronized void markBroken(@NotNull IOException e) {
+    LOG.warn("Lombok signature cache failed, it is disabled until restart", e);
+    storageBroken = true;
+    closeStorage();
+    PersistentHashMap.deleteFilesStartingWith(storageFile);
+  }
+
+  @Override
+  public synchronized void dispose() {
+    closeStorage();
+  }
+
+  private void closeStorage() {
+    if (null != storage) {
+      try {
+        storage.close();
+      } catch (IOException e) {
+        LOG.info(e);
+      }
+      storage = null;
+    }
+  }
+
+  /**
+   * Converts all generated members to signatures
+   *
+   * @return signatures, or null if any generated member can't be rebuilt from its signature
+   */
+  @Nullable
+  static List<MemberSignature> toSignatures(@NotNull PsiClass psiClass, @NotNull LombokAugmentSnapshot snapshot) {
+    if (!snapshot.getAugments(PsiClass.class).isEmpty()) {
+      return null;
+    }
+
+    final List<MemberSignature> result = new ArrayList<>();
+    for (PsiField psiField : snapshot.getAugments(PsiField.class)) {
+      if (psiField.getClass() != LombokLightFieldBuilder.class || psiField.getContainingClass() != psiClass) {
+        return null;
+      }
+      final String[] modifiers = getModifiers(psiField.getModifierList());
+      final String[] annotations = getAnnotations(psiField.getModifierList());
+      final PsiExpression initializer = psiField.getInitializer();
+      final MemberSignature signature = createSignature(psiClass, psiField, MemberSignature.FIELD, psiField.getName(),
+        psiField.getType().getCanonicalText(), modifiers, annotations, new PsiParameter[0],
+        null == initializer ? "" : initializer.getText());
+      if (null == signature) {
+        return null;
+      }
+      result.add(signature);
+    }
+
+    for (PsiMethod psiMethod : snapshot.getAugments(PsiMethod.class)) {
+      if (psiMethod.getClass() != LombokLightMethodBuilder.class || psiMethod.getContainingClass() != psiClass
+        || psiMethod.hasTypeParameters() || psiMethod.getThrowsList().getReferencedTypes().length > 0) {
+        return null;
+      }
+      final PsiType returnType = psiMethod.getReturnType();
+      final String[] modifiers = getModifiers(psiMethod.getModifierList());
+      final String[] annotations = getAnnotations(psiMethod.getModifierList());
+      final MemberSignature signature = createSignature(psiClass, psiMethod,
+        psiMethod.isConstructor() ? MemberSignature.CONSTRUCTOR : MemberSignature.METHOD, psiMethod.getName(),
+        null == returnType ? "" : returnType.getCanonicalText(), modifiers, annotations, psiMethod.getParameterList().getParameters(), "");
+      if (null == signature) {
+        return null;
+      }
+      result.add(signature);
+    }
+    return result;
+  }
+
+  @Nullable
+  private static MemberSignature createSignature(@NotNull PsiClass psiClass, @NotNull PsiElement member, byte kind, @NotNull String name,
+                                                 @NotNull String type, @Nullable String[] modifiers, @Nullable String[] annotations,
+                                                 @NotNull PsiParameter[] parameters, @NotNull String initializer) {
+    if (null == modifiers || null == annotations) {
+      return null;
+    }
+
+    final String[] parameterNames = new String[parameters.length];
+    final String[] parameterTypes = new String[parameters.length];
+    final boolean[] finalParameters = new boolean[parameters.length];
+    for (int i = 0; i < parameters.length; i++) {
+      final PsiModifierList parameterModifierList = parameters[i].getModifierList();
+      if (null != parameterModifierList && parameterModifierList.getAnnotations().length > 0) {
+        return null;
+      }
+      parameterNames[i] = parameters[i].getName();
+      parameterTypes[i] = parameters[i].getType().getCanonicalText();
+      finalParameters[i] = parameters[i].hasModifierProperty(PsiModifier.FINAL);
+    }
+
+    final PsiElement navigationElement = member.getNavigationElement();
+    if (navigationElement == member) {
+      return new MemberSignature(kind, name, type, modifiers, annotations, parameterNames, parameterTypes, finalParameters,
+        initializer, MemberSignature.NAVIGATE_TO_SELF, "");
+    } else if (navigationElement == psiClass) {
+      return new MemberSignature(kind, name, type, modifiers, annotations, parameterNames, parameterTypes, finalParameters,
+        initializer, MemberSignature.NAVIGATE_TO_CLASS, "");
+    } else if (navigationElement instanceof PsiField && !(navigationElement instanceof LightElement)
+      && ((PsiField) navigationElement).getContainingClass() == psiClass) {
+      return new MemberSignature(kind, name, type, modifiers, annotations, parameterNames, parameterTypes, finalParameters,
+        initializer, MemberSignature.NAVIGATE_TO_FIELD, ((PsiField) navigationElement).getName());
+    }
+    return null;
+  }
+
+  /**
+   * @return explicit modifiers, or null if there are implicit ones, which can't be restored
+   */
+  @Nullable
+  private static String[] getModifiers(@Nullable PsiModifierList modifierList) {
+    if (!(modifierList instanceof LightModifierList)) {
+      return null;
+    }
+    final String[] result = ((LightModifierList) modifierList).getModifiers();
+    for (String modifier : PsiModifier.MODIFIERS) {
+      if (modifierList.hasModifierProperty(modifier) && !ArrayUtil.contains(modifier, result)) {
+        return null;
+      }
+    }
+    return result;
+  }
+
+  @Nullable
+  private static String[] getAnnotations(@Nullable PsiModifierList modifierList) {
+    if (null == modifierList) {
+      return null;
+    }
+    return Arrays.stream(modifierList.getAnnotations())
+      .map(psiAnnotation -> StringUtil.trimStart(psiAnnotation.getText(), "@"))
+      .toArray(String[]::new);
+  }
+
+  /**
+   * Rebuilds generated members from their signatures, types are resolved lazily on first use like for processed members.
+   * Method bodies are copied from the members of processedSnapshot on first access, so they are the same as of processed members.
+   */
+  @NotNull
+  static LombokAugmentSnapshot fromSignatures(@NotNull PsiClass psiClass, @NotNull List<MemberSignature> signatures,
+                                              @NotNull Supplier<LombokAugmentSnapshot> processedSnapshot) {
+    final PsiManager psiManager = psiClass.getManager();
+    final PsiElementFactory elementFactory = JavaPsiFacade.getElementFactory(psiClass.getProject());
+    final PsiTypePool typePool = PsiTypePool.getInstance(psiClass);
+    final ProcessedMethods processedMethods = new ProcessedMethods(processedSnapshot);
+
+    final List<PsiElement> fields = new ArrayList<>();
+    final List<PsiElement> methods = new ArrayList<>();
+    for (MemberSignature signature : signatures) {
+      if (MemberSignature.FIELD == signature.kind) {
+        final LombokLightFieldBuilder fieldBuilder = new LombokLightFieldBuilder(psiManager, signature.name,
+          typePool.createTypeFromText(signature.type))
+          .withContainingClass(psiClass)
+          .setModifiers(signature.modifiers);
+        for (String annotation : signature.annotations) {
+          fieldBuilder.getModifierList().addAnnotation(annotation);
+        }
+        if (!signature.initializer.isEmpty()) {
+          fieldBuilder.setInitializer(elementFactory.createExpressionFromText(signature.initializer, psiClass));
+        }
+        setNavigationElement(fieldBuilder, psiClass, signature);
+        fields.add(fieldBuilder);
+      } else {
+        final LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(psiManager, signature.name)
+          .withContainingClass(psiClass)
+          .withConstructor(MemberSignature.CONSTRUCTOR == signature.kind)
+          .withModifier(signature.modifiers)
+          .withAnnotations(Arrays.asList(signature.annotations));
+        if (!signature.type.isEmpty()) {
+          methodBuilder.withMethodReturnType(typePool.createTypeFromText(signature.type));
+        }
+        for (int i = 0; i < signature.parameterNames.length; i++) {
+          final PsiType parameterType = typePool.createTypeFromText(signature.parameterTypes[i]);
+          if (signature.finalParameters[i]) {
+            methodBuilder.withFinalParameter(signature.parameterNames[i], parameterType);
+          } else {
+            methodBuilder.withParameter(signature.parameterNames[i], parameterType);
+          }
+        }
+        methodBuilder.withBody(() -> processedMethods.copyBody(methodBuilder, elementFactory));
+        setNavigationElement(methodBuilder, psiClass, signature);
+        methods.add(methodBuilder);
+      }
+    }
+
+    final LombokAugmentSnapshot.Builder builder = new LombokAugmentSnapshot.Builder();
+    builder.add(PsiField.class, fields);
+    builder.add(PsiMethod.class, methods);
+    return builder.build();
+  }
+
+  private static void setNavigationElement(@NotNull LombokLightFieldBuilder fieldBuilder, @NotNull PsiClass psiClass,
+                                           @NotNull MemberSignature signature) {
+    final PsiElement navigationElement = findNavigationElement(psiClass, signature);
+    if (null != navigationElement) {
+      fieldBuilder.withNavigationElement(navigationElement);
+    }
+  }
+
+  private static void setNavigationElement(@NotNull LombokLightMethodBuilder methodBuilder, @NotNull PsiClass psiClass,
+                                           @NotNull MemberSignature signature) {
+    final PsiElement navigationElement = findNavigationElement(psiClass, signature);
+    if (null != navigationElement) {
+      methodBuilder.withNavigationElement(navigationElement);
+    }
+  }
+
+  @Nullable
+  private static PsiElement findNavigationElement(@NotNull PsiClass psiClass, @NotNull MemberSignature signature) {
+    if (MemberSignature.NAVIGATE_TO_CLASS == signature.navigation) {
+      return psiClass;
+    } else if (MemberSignature.NAVIGATE_TO_FIELD == signature.navigation) {
+      // own fields only, without augmented ones, as this is called during augmentation
+      for (PsiField psiField : PsiClassUtil.collectClassFieldsIntern(psiClass)) {
+        if (signature.navigationFieldName.equals(psiField.getName())) {
+          return psiField;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Methods generated by the processors, computed once on the first body access of any restored method of the class
+   */
+  private static class ProcessedMethods {
+    private final Supplier<LombokAugmentSnapshot> processedSnapshot;
+    private volatile List<PsiMethod> methods;
+
+    ProcessedMethods(@NotNull Supplier<LombokAugmentSnapshot> processedSnapshot) {
+      this.processedSnapshot = processedSnapshot;
+    }
+
+    @Nullable
+    PsiCodeBlock copyBody(@NotNull PsiMethod restoredMethod, @NotNull PsiElementFactory elementFactory) {
+      for (PsiMethod processedMethod : getMethods()) {
+        if (isSameSignature(processedMethod, restoredMethod)) {
+          final PsiCodeBlock processedBody = processedMethod.getBody();
+          return null == processedBody ? null : elementFactory.createCodeBlockFromText(processedBody.getText(), restoredMethod);
+        }
+      }
+      return null;
+    }
+
+    @NotNull
+    private List<PsiMethod> getMethods() {
+      List<PsiMethod> result = methods;
+      if (null == result) {
+        synchronized (this) {
+          result = methods;
+          if (null == result) {
+            final LombokAugmentSnapshot snapshot = processedSnapshot.get();
+            result = null == snapshot ? Collections.emptyList() : snapshot.getAugments(PsiMethod.class);
+            methods = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    private static boolean isSameSignature(@NotNull PsiMethod processedMethod, @NotNull PsiMethod restoredMethod) {
+      if (!processedMethod.getName().equals(restoredMethod.getName()) || processedMethod.isConstructor() != restoredMethod.isConstructor()) {
+        return false;
+      }
+      final PsiParameter[] processedParameters = processedMethod.getParameterList().getParameters();
+      final PsiParameter[] restoredParameters = restoredMethod.getParameterList().getParameters();
+      if (processedParameters.length != restoredParameters.length) {
+        return false;
+      }
+      for (int i = 0; i < processedParameters.length; i++) {
+        if (!processedParameters[i].getType().equals(restoredParameters[i].getType())) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Signatures of one class together with the digest they were computed for
+   */
+  private static final class StoredSignatures {
+    private static final DataExternalizer<StoredSignatures> EXTERNALIZER = new DataExternalizer<StoredSignatures>() {
+      @Override
+      public void save(@NotNull DataOutput out, StoredSignatures storedSignatures) throws IOException {
+        IOUtil.writeUTF(out, storedSignatures.digest);
+        MemberSignature.EXTERNALIZER.save(out, storedSignatures.signatures);
+      }
+
+      @Override
+      public StoredSignatures read(@NotNull DataInput in) throws IOException {
+        final String digest = IOUtil.readUTF(in);
+        return new StoredSignatures(digest, MemberSignature.EXTERNALIZER.read(in));
+      }
+    };
+
+    private final String digest;
+    private final List<MemberSignature> signatures;
+
+    private StoredSignatures(@NotNull String digest, @NotNull List<MemberSignature> signatures) {
+      this.digest = digest;
+      this.signatures = signatures;
+    }
+  }
+
+  @NotNull
+  private static String digest(@NotNull CharSequence text) {
+    try {
+      final MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+      return StringUtil.toHexString(messageDigest.digest(text.toString().getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class FileDigestCachedValueProvider implements CachedValueProvider<String> {
+    private final PsiFile psiFile;
+
+    FileDigestCachedValueProvider(PsiFile psiFile) {
+      this.psiFile = psiFile;
+    }
+
+    @Override
+    public Result<String> compute() {
+      return Result.create(digest(psiFile.getViewProvider().getContents()), psiFile);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.util.ArrayUtil;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact, persistable form of one lombok generated field, method or constructor: everything needed to rebuild
+ * the light element without running its processor, except of method bodies.
+ */
+final class MemberSignature {
+  static final byte FIELD = 0;
+  static final byte METHOD = 1;
+  static final byte CONSTRUCTOR = 2;
+
+  static final byte NAVIGATE_TO_SELF = 0;
+  static final byte NAVIGATE_TO_CLASS = 1;
+  static final byte NAVIGATE_TO_FIELD = 2;
+
+  static final DataExternalizer<List<MemberSignature>> EXTERNALIZER = new DataExternalizer<List<MemberSignature>>() {
+    @Override
+    public void save(@NotNull DataOutput out, List<MemberSignature> signatures) throws IOException {
+      DataInputOutputUtil.writeINT(out, signatures.size());
+      for (MemberSignature signature : signatures) {
+        signature.write(out);
+      }
+    }
+
+    @Override
+    public List<MemberSignature> read(@NotNull DataInput in) throws IOException {
+      final int size = DataInputOutputUtil.readINT(in);
+      final List<MemberSignature> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        result.add(MemberSignature.read(in));
+      }
+      return result;
+    }
+  };
+
+  final byte kind;
+  final String name;
+  /**
+   * Canonical text of field or return type, empty for constructors
+   */
+  final String type;
+  final String[] modifiers;
+  /**
+   * Annotation texts without leading '@'
+   */
+  final String[] annotations;
+  final String[] parameterNames;
+  final String[] parameterTypes;
+  final boolean[] finalParameters;
+  /**
+   * Field initializer text, empty if there is none or for methods
+   */
+  final String initializer;
+  final byte navigation;
+  /**
+   * Name of the field of the containing class to navigate to, empty for other navigation targets
+   */
+  final String navigationFieldName;
+
+  MemberSignature(byte kind, @NotNull String name, @NotNull String type, @NotNull String[] modifiers, @NotNull String[] annotations,
+                  @NotNull String[] parameterNames, @NotNull String[] parameterTypes, @NotNull boolean[] finalParameters,
+                  @NotNull String initializer, byte navigation, @NotNull String navigationFieldName) {
+    this.kind = kind;
+    this.name = name;
+    this.type = type;
+    this.modifiers = modifiers;
+    this.annotations = annotations;
+    this.parameterNames = parameterNames;
+    this.parameterTypes = parameterTypes;
+    this.finalParameters = finalParameters;
+    this.initializer = initializer;
+    this.navigation = navigation;
+    this.navigationFieldName = navigationFieldName;
+  }
+
+  private void write(@NotNull DataOutput out) throws IOException {
+    out.writeByte(kind);
+    IOUtil.writeUTF(out, name);
+    IOUtil.writeUTF(out, type);
+    writeStrings(out, modifiers);
+    writeStrings(out, annotations);
+    DataInputOutputUtil.writeINT(out, parameterNames.length);
+    for (int i = 0; i < parameterNames.length; i++) {
+      IOUtil.writeUTF(out, parameterNames[i]);
+      IOUtil.writeUTF(out, parameterTypes[i]);
+      out.writeBoolean(finalParameters[i]);
+    }
+    IOUtil.writeUTF(out, initializer);
+    out.writeByte(navigation);
+    IOUtil.writeUTF(out, navigationFieldName);
+  }
+
+  @NotNull
+  private static MemberSignature read(@NotNull DataInput in) throws IOException {
+    final byte kind = in.readByte();
+    final String name = IOUtil.readUTF(in);
+    final String type = IOUtil.readUTF(in);
+    final String[] modifiers = readStrings(in);
+    final String[] annotations = readStrings(in);
+    final int parameterCount = DataInputOutputUtil.readINT(in);
+    final String[] parameterNames = new String[parameterCount];
+    final String[] parameterTypes = new String[parameterCount];
+    final boolean[] finalParameters = new boolean[parameterCount];
+    for (int i = 0; i < parameterCount; i++) {
+      parameterNames[i] = IOUtil.readUTF(in);
+      parameterTypes[i] = IOUtil.readUTF(in);
+      finalParameters[i] = in.readBoolean();
+    }
+    final String initializer = IOUtil.readUTF(in);
+    final byte navigation = in.readByte();
+    final String navigationFieldName = IOUtil.readUTF(in);
+    return new MemberSignature(kind, name, type, modifiers, annotations, parameterNames, parameterTypes, finalParameters,
+      initializer, navigation, navigationFieldName);
+  }
+
+  private static void writeStrings(@NotNull DataOutput out, @NotNull String[] values) throws IOException {
+    DataInputOutputUtil.writeINT(out, values.length);
+    for (String value : values) {
+      IOUtil.writeUTF(out, value);
+    }
+  }
+
+  @NotNull
+  private static String[] readStrings(@NotNull DataInput in) throws IOException {
+    final int size = DataInputOutputUtil.readINT(in);
+    if (0 == size) {
+      return ArrayUtil.EMPTY_STRING_ARRAY;
+    }
+    final String[] result = new String[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = IOUtil.readUTF(in);
+    }
+    return result;
+  }
+}
@@ -18,6 +18,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * @author Plushnikov Michail
@@ -25,7 +26,8 @@ import java.util.Objects;
 public class LombokLightMethodBuilder extends LightMethodBuilder {
   private PsiMethod myMethod;
   private ASTNode myASTNode;
-  private PsiCodeBlock myBodyCodeBlock;
+  private volatile PsiCodeBlock myBodyCodeBlock;
+  private volatile Supplier<PsiCodeBlock> myBodyCodeBlockSupplier;
   // used to simplify comparing of returnType in equal method
   private String myReturnTypeAsText;
 
@@ -108,6 +110,16 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
 
   public LombokLightMethodBuilder withBody(@NotNull PsiCodeBlock codeBlock) {
     myBodyCodeBlock = codeBlock;
+    myBodyCodeBlockSupplier = null;
+    return this;
+  }
+
+  /**
+   * Body gets created on first {@link #getBody()} call only, most generated methods never need one
+   */
+  public LombokLightMethodBuilder withBody(@NotNull Supplier<PsiCodeBlock> codeBlockSupplier) {
+    myBodyCodeBlock = null;
+    myBodyCodeBlockSupplier = codeBlockSupplier;
     return this;
   }
 
@@ -130,7 +142,19 @@ public class LombokLightMethodBuilder extends LightMethodBuilder {
 
   @Override
   public PsiCodeBlock getBody() {
-    return myBodyCodeBlock;
+    PsiCodeBlock result = myBodyCodeBlock;
+    if (null == result && null != myBodyCodeBlockSupplier) {
+      synchronized (this) {
+        result = myBodyCodeBlock;
+        final Supplier<PsiCodeBlock> codeBlockSupplier = myBodyCodeBlockSupplier;
+        if (null == result && null != codeBlockSupplier) {
+          result = codeBlockSupplier.get();
+          myBodyCodeBlock = result;
+          myBodyCodeBlockSupplier = null;
+        }
+      }
+    }
+    return result;
   }
 
   @Override
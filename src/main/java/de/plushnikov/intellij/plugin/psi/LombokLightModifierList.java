@@ -8,39 +8,98 @@ import com.intellij.psi.PsiElementFactory;
 import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.impl.light.LightModifierList;
+import com.intellij.util.ArrayUtil;
 import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 
 /**
+ * Modifiers are kept as bits of {@link PsiModifier#MODIFIERS} positions, followed by one for
+ * {@link PsiModifier#PACKAGE_LOCAL}. Annotations are kept in a map which is shared empty and copied on write, as there
+ * are a lot of these lists and most of them never get any annotation.
+ *
  * @author Plushnikov Michail
  */
 public class LombokLightModifierList extends LightModifierList {
-  private static final Set<String> ALL_MODIFIERS = new HashSet<>(Arrays.asList(PsiModifier.MODIFIERS));
+  private static final String[] MODIFIER_NAMES = ArrayUtil.append(PsiModifier.MODIFIERS, PsiModifier.PACKAGE_LOCAL);
+  private static final Map<String, Integer> MODIFIER_BITS = new HashMap<>();
 
-  private final Map<String, PsiAnnotation> myAnnotations;
-  private final Set<String> myImplicitModifiers;
+  static {
+    for (int i = 0; i < MODIFIER_NAMES.length; i++) {
+      MODIFIER_BITS.put(MODIFIER_NAMES[i], 1 << i);
+    }
+  }
+
+  private volatile Map<String, PsiAnnotation> myAnnotations = Collections.emptyMap();
+  private int myModifiers;
+  private int myImplicitModifiers;
 
   public LombokLightModifierList(PsiManager manager, final Language language, Collection<String> implicitModifiers, String... modifiers) {
-    super(manager, language, modifiers);
-    this.myAnnotations = new HashMap<>();
-    this.myImplicitModifiers = new HashSet<>(implicitModifiers);
+    super(manager, language);
+    for (String modifier : modifiers) {
+      addModifier(modifier);
+    }
+    for (String implicitModifier : implicitModifiers) {
+      addImplicitModifierProperty(implicitModifier);
+    }
+  }
+
+  private static int getModifierBit(@NotNull String name) {
+    final Integer bit = MODIFIER_BITS.get(name);
+    return null == bit ? 0 : bit;
+  }
+
+  private static int getKnownModifierBit(@NotNull String name) {
+    final int bit = getModifierBit(name);
+    if (0 == bit) {
+      throw new IllegalArgumentException("Unknown modifier: " + name);
+    }
+    return bit;
+  }
+
+  @Override
+  public void addModifier(String modifier) {
+    myModifiers |= getKnownModifierBit(modifier);
+  }
+
+  @Override
+  public void clearModifiers() {
+    myModifiers = 0;
   }
 
   @Override
   public boolean hasModifierProperty(@NotNull String name) {
-    return myImplicitModifiers.contains(name) || super.hasModifierProperty(name);
+    return ((myModifiers | myImplicitModifiers) & getModifierBit(name)) != 0;
+  }
+
+  @Override
+  public boolean hasExplicitModifier(@NotNull String name) {
+    return (myModifiers & getModifierBit(name)) != 0;
+  }
+
+  @Override
+  public String[] getModifiers() {
+    if (0 == myModifiers) {
+      return ArrayUtil.EMPTY_STRING_ARRAY;
+    }
+    final String[] result = new String[Integer.bitCount(myModifiers)];
+    int index = 0;
+    for (int i = 0; i < MODIFIER_NAMES.length; i++) {
+      if ((myModifiers & (1 << i)) != 0) {
+        result[index++] = MODIFIER_NAMES[i];
+      }
+    }
+    return result;
   }
 
   public void addImplicitModifierProperty(@PsiModifier.ModifierConstant @NotNull @NonNls String implicitModifier) {
-    myImplicitModifiers.add(implicitModifier);
+    myImplicitModifiers |= getKnownModifierBit(implicitModifier);
   }
 
   public void setModifierProperty(@PsiModifier.ModifierConstant @NotNull @NonNls String name, boolean value) throws IncorrectOperationException {
@@ -54,24 +113,7 @@ public class LombokLightModifierList extends LightModifierList {
   }
 
   private void removeModifier(@PsiModifier.ModifierConstant @NotNull @NonNls String name) {
-    final Collection<String> myModifiers = collectAllModifiers();
-    myModifiers.remove(name);
-
-    clearModifiers();
-
-    for (String modifier : myModifiers) {
-      addModifier(modifier);
-    }
-  }
-
-  private Collection<String> collectAllModifiers() {
-    Collection<String> result = new HashSet<>();
-    for (@PsiModifier.ModifierConstant String modifier : ALL_MODIFIERS) {
-      if (hasExplicitModifier(modifier)) {
-        result.add(modifier);
-      }
-    }
-    return result;
+    myModifiers &= ~getModifierBit(name);
   }
 
   public void checkSetModifierProperty(@PsiModifier.ModifierConstant @NotNull @NonNls String name, boolean value) throws IncorrectOperationException {
@@ -83,7 +125,15 @@ public class LombokLightModifierList extends LightModifierList {
   public PsiAnnotation addAnnotation(@NotNull @NonNls String qualifiedName) {
     final PsiElementFactory elementFactory = JavaPsiFacade.getElementFactory(getProject());
     final PsiAnnotation psiAnnotation = elementFactory.createAnnotationFromText('@' + qualifiedName, null);
-    myAnnotations.put(qualifiedName, psiAnnotation);
+
+    final Map<String, PsiAnnotation> annotations = myAnnotations;
+    if (annotations.isEmpty() || annotations.size() == 1 && annotations.containsKey(qualifiedName)) {
+      myAnnotations = Collections.singletonMap(qualifiedName, psiAnnotation);
+    } else {
+      final Map<String, PsiAnnotation> newAnnotations = new LinkedHashMap<>(annotations);
+      newAnnotations.put(qualifiedName, psiAnnotation);
+      myAnnotations = newAnnotations;
+    }
     return psiAnnotation;
   }
 
@@ -95,10 +145,10 @@ public class LombokLightModifierList extends LightModifierList {
   @Override
   @NotNull
   public PsiAnnotation[] getAnnotations() {
+    final Map<String, PsiAnnotation> annotations = myAnnotations;
     PsiAnnotation[] result = PsiAnnotation.EMPTY_ARRAY;
-    if (!myAnnotations.isEmpty()) {
-      Collection<PsiAnnotation> annotations = myAnnotations.values();
-      result = annotations.toArray(new PsiAnnotation[0]);
+    if (!annotations.isEmpty()) {
+      result = annotations.values().toArray(PsiAnnotation.EMPTY_ARRAY);
     }
     return result;
   }
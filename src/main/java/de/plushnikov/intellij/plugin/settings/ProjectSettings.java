@@ -19,6 +19,8 @@ public class ProjectSettings {
   public static final String IS_LOMBOK_VERSION_CHECK_ENABLED = PREFIX + "IS_LOMBOK_VERSION_CHECK_Enabled";
   public static final String IS_MISSING_LOMBOK_CHECK_ENABLED = PREFIX + "IS_MISSING_LOMBOK_CHECK_Enabled";
 
+  public static final String IS_PARALLEL_PROCESSING_ENABLED = PREFIX + "IS_PARALLEL_PROCESSING_Enabled";
+
   public static boolean isLombokEnabledInProject(@NotNull final Project project) {
     return isEnabled(project, LOMBOK_ENABLED_IN_PROJECT);
   }
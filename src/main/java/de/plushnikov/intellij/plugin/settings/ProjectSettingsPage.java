@@ -27,6 +27,7 @@ public class ProjectSettingsPage implements SearchableConfigurable, Configurable
   private JCheckBox myMissingLombokWarning;
   private JPanel mySupportPanel;
   private JCheckBox myAnnotationProcessingWarning;
+  private JCheckBox myParallelProcessing;
 
   private PropertiesComponent myPropertiesComponent;
   private LombokProcessorProvider myLombokProcessorProvider;
@@ -76,6 +77,7 @@ public class ProjectSettingsPage implements SearchableConfigurable, Configurable
     myEnableLombokVersionWarning.setSelected(ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_LOMBOK_VERSION_CHECK_ENABLED, false));
     myMissingLombokWarning.setSelected(ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_MISSING_LOMBOK_CHECK_ENABLED, false));
     myAnnotationProcessingWarning.setSelected(ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_ANNOTATION_PROCESSING_CHECK_ENABLED, true));
+    myParallelProcessing.setSelected(ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_PARALLEL_PROCESSING_ENABLED, false));
   }
 
   @Override
@@ -88,7 +90,8 @@ public class ProjectSettingsPage implements SearchableConfigurable, Configurable
       myEnableConstructorSupport.isSelected() != ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_CONSTRUCTOR_ENABLED) ||
       myEnableLombokVersionWarning.isSelected() != ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_LOMBOK_VERSION_CHECK_ENABLED, false) ||
       myAnnotationProcessingWarning.isSelected() != ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_ANNOTATION_PROCESSING_CHECK_ENABLED, true) ||
-      myMissingLombokWarning.isSelected() != ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_MISSING_LOMBOK_CHECK_ENABLED, false);
+      myMissingLombokWarning.isSelected() != ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_MISSING_LOMBOK_CHECK_ENABLED, false) ||
+      myParallelProcessing.isSelected() != ProjectSettings.isEnabled(myPropertiesComponent, ProjectSettings.IS_PARALLEL_PROCESSING_ENABLED, false);
   }
 
   @Override
@@ -105,6 +108,7 @@ public class ProjectSettingsPage implements SearchableConfigurable, Configurable
     ProjectSettings.setEnabled(myPropertiesComponent, ProjectSettings.IS_LOMBOK_VERSION_CHECK_ENABLED, myEnableLombokVersionWarning.isSelected());
     ProjectSettings.setEnabled(myPropertiesComponent, ProjectSettings.IS_MISSING_LOMBOK_CHECK_ENABLED, myMissingLombokWarning.isSelected());
     ProjectSettings.setEnabled(myPropertiesComponent, ProjectSettings.IS_ANNOTATION_PROCESSING_CHECK_ENABLED, myAnnotationProcessingWarning.isSelected());
+    ProjectSettings.setEnabled(myPropertiesComponent, ProjectSettings.IS_PARALLEL_PROCESSING_ENABLED, myParallelProcessing.isSelected());
 
     myLombokProcessorProvider.initProcessors();
   }
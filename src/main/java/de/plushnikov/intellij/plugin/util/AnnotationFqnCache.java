@@ -0,0 +1,233 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Qualified names of all annotations of one java file, cached until the file itself or any declaration in the project changes.
+ * Annotations imported by a single type import, or lombok annotations imported by 'lombok.*' or 'lombok.experimental.*',
+ * are answered from the import list without resolving their references, so this works in dumb mode too.
+ * All other annotations are resolved once per cache lifetime.
+ */
+final class AnnotationFqnCache {
+  private static final String LOMBOK_PACKAGE = "lombok";
+  private static final String LOMBOK_EXPERIMENTAL_PACKAGE = "lombok.experimental";
+  /**
+   * Marker of reference names, which are not lombok annotations imported on demand
+   */
+  private static final String NO_LOMBOK_NAME = "";
+
+  /**
+   * Annotations of the lombok packages, including ones of older lombok versions, to detect ambiguous on demand imports
+   */
+  private static final Map<String, Set<String>> LOMBOK_ANNOTATIONS = new HashMap<>();
+
+  static {
+    LOMBOK_ANNOTATIONS.put(LOMBOK_PACKAGE, new HashSet<>(Arrays.asList("AllArgsConstructor", "Builder", "Cleanup", "CustomLog",
+      "Data", "Delegate", "EqualsAndHashCode", "Generated", "Getter", "JPAEqualsAndHashCode", "MateuMDDEntity", "NoArgsConstructor",
+      "NonNull", "RequiredArgsConstructor", "Setter", "Singular", "SneakyThrows", "Synchronized", "ToString", "Value", "With")));
+    LOMBOK_ANNOTATIONS.put(LOMBOK_EXPERIMENTAL_PACKAGE, new HashSet<>(Arrays.asList("Accessors", "Builder", "Delegate",
+      "ExtensionMethod", "FieldDefaults", "FieldNameConstants", "Helper", "NonFinal", "PackagePrivate", "SuperBuilder",
+      "Tolerate", "UtilityClass", "Value", "Wither")));
+  }
+
+  private final PsiJavaFile psiJavaFile;
+  private final Map<String, String> singleTypeImports;
+  private final Set<String> onDemandImports;
+  private final Set<String> declaredClassNames;
+  private final ConcurrentMap<PsiAnnotation, String> resolvedNames = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, String> onDemandImportedNames = new ConcurrentHashMap<>();
+
+  private AnnotationFqnCache(@NotNull PsiJavaFile psiJavaFile, @NotNull Map<String, String> singleTypeImports,
+                             @NotNull Set<String> onDemandImports, @NotNull Set<String> declaredClassNames) {
+    this.psiJavaFile = psiJavaFile;
+    this.singleTypeImports = singleTypeImports;
+    this.onDemandImports = onDemandImports;
+    this.declaredClassNames = declaredClassNames;
+  }
+
+  /**
+   * @param annotation    annotation to get the qualified name of
+   * @param referenceName short name the annotation is referenced with
+   * @return qualified name, or short name if annotation can't be resolved
+   */
+  @Nullable
+  static String getQualifiedName(@NotNull PsiAnnotation annotation, @Nullable String referenceName) {
+    final PsiFile psiFile = annotation.getContainingFile();
+    if (!(psiFile instanceof PsiJavaFile)) {
+      return annotation.getQualifiedName();
+    }
+    final AnnotationFqnCache fqnCache = CachedValuesManager.getCachedValue(psiFile, new AnnotationFqnCachedValueProvider((PsiJavaFile) psiFile));
+    return fqnCache.findQualifiedName(annotation, referenceName);
+  }
+
+  @Nullable
+  private String findQualifiedName(@NotNull PsiAnnotation annotation, @Nullable String referenceName) {
+    final String importedName = findImportedName(referenceName);
+    if (null != importedName) {
+      return importedName;
+    }
+
+    final String lombokName = findOnDemandImportedLombokName(referenceName);
+    if (null != lombokName) {
+      return lombokName;
+    }
+
+    String result = resolvedNames.get(annotation);
+    if (null == result) {
+      result = annotation.getQualifiedName();
+      if (null != result) {
+        resolvedNames.put(annotation, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Single type imports can only be shadowed by classes declared in the same file
+   */
+  @Nullable
+  private String findImportedName(@Nullable String referenceName) {
+    if (null == referenceName || declaredClassNames.contains(referenceName)) {
+      return null;
+    }
+    return singleTypeImports.get(referenceName);
+  }
+
+  /**
+   * A lombok annotation is imported on demand, if only lombok packages are imported on demand and exactly one of them
+   * contains an annotation with the name. Classes of the same package take precedence over on demand imports,
+   * they can only be looked up in smart mode. Member types inherited from super classes are not considered.
+   * Results of smart mode are remembered per reference name.
+   */
+  @Nullable
+  private String findOnDemandImportedLombokName(@Nullable String referenceName) {
+    if (null == referenceName || onDemandImports.isEmpty() || declaredClassNames.contains(referenceName)) {
+      return null;
+    }
+    if (DumbService.isDumb(psiJavaFile.getProject())) {
+      return computeOnDemandImportedLombokName(referenceName, false);
+    }
+
+    String result = onDemandImportedNames.get(referenceName);
+    if (null == result) {
+      result = StringUtil.notNullize(computeOnDemandImportedLombokName(referenceName, true));
+      onDemandImportedNames.put(referenceName, result);
+    }
+    return NO_LOMBOK_NAME.equals(result) ? null : result;
+  }
+
+  @Nullable
+  private String computeOnDemandImportedLombokName(@NotNull String referenceName, boolean checkSamePackage) {
+    String result = null;
+    for (String onDemandImport : onDemandImports) {
+      final Set<String> lombokAnnotations = LOMBOK_ANNOTATIONS.get(onDemandImport);
+      if (null == lombokAnnotations) {
+        return null;
+      }
+      if (lombokAnnotations.contains(referenceName)) {
+        if (null != result) {
+          return null;
+        }
+        result = onDemandImport + '.' + referenceName;
+      }
+    }
+
+    if (null != result && checkSamePackage && isSamePackageClass(referenceName)) {
+      return null;
+    }
+    return result;
+  }
+
+  private boolean isSamePackageClass(@NotNull String referenceName) {
+    final String packageName = psiJavaFile.getPackageName();
+    final String qualifiedName = packageName.isEmpty() ? referenceName : packageName + '.' + referenceName;
+    return null != JavaPsiFacade.getInstance(psiJavaFile.getProject()).findClass(qualifiedName, psiJavaFile.getResolveScope());
+  }
+
+  private static class AnnotationFqnCachedValueProvider implements CachedValueProvider<AnnotationFqnCache> {
+    private final PsiJavaFile psiJavaFile;
+
+    AnnotationFqnCachedValueProvider(PsiJavaFile psiJavaFile) {
+      this.psiJavaFile = psiJavaFile;
+    }
+
+    @Override
+    public Result<AnnotationFqnCache> compute() {
+      final AnnotationFqnCache result = new AnnotationFqnCache(psiJavaFile, collectSingleTypeImports(psiJavaFile),
+        collectOnDemandImports(psiJavaFile), collectDeclaredClassNames(psiJavaFile));
+      return Result.create(result, psiJavaFile, PsiModificationTracker.OUT_OF_CODE_BLOCK_MODIFICATION_COUNT);
+    }
+  }
+
+  @NotNull
+  private static Map<String, String> collectSingleTypeImports(@NotNull PsiJavaFile psiJavaFile) {
+    final PsiImportList importList = psiJavaFile.getImportList();
+    if (null == importList) {
+      return Collections.emptyMap();
+    }
+
+    final Map<String, String> result = new HashMap<>();
+    for (PsiImportStatement importStatement : importList.getImportStatements()) {
+      final String qualifiedName = importStatement.getQualifiedName();
+      if (!importStatement.isOnDemand() && null != qualifiedName) {
+        result.put(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1), qualifiedName);
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  private static Set<String> collectOnDemandImports(@NotNull PsiJavaFile psiJavaFile) {
+    final PsiImportList importList = psiJavaFile.getImportList();
+    if (null == importList) {
+      return Collections.emptySet();
+    }
+
+    final Set<String> result = new HashSet<>();
+    for (PsiImportStatement importStatement : importList.getImportStatements()) {
+      final String qualifiedName = importStatement.getQualifiedName();
+      if (importStatement.isOnDemand() && null != qualifiedName) {
+        result.add(qualifiedName);
+      }
+    }
+    return result;
+  }
+
+  @NotNull
+  private static Set<String> collectDeclaredClassNames(@NotNull PsiJavaFile psiJavaFile) {
+    final Set<String> result = new HashSet<>();
+    collectClassNames(Arrays.asList(psiJavaFile.getClasses()), result);
+    return result;
+  }
+
+  private static void collectClassNames(@NotNull Collection<PsiClass> psiClasses, @NotNull Set<String> target) {
+    for (PsiClass psiClass : psiClasses) {
+      target.add(psiClass.getName());
+      // own inner classes only, without augmented ones, as this is called during augmentation
+      collectClassNames(PsiClassUtil.collectInnerClassesIntern(psiClass), target);
+    }
+  }
+}
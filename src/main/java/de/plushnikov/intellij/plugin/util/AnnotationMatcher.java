@@ -0,0 +1,91 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.util.ArrayUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precompiled, immutable set of annotations to search for with {@link PsiAnnotationSearchUtil}.
+ * Holds interned short and qualified names, so searching doesn't allocate anything.
+ * Should be created once (e.g. per processor or as constant) and reused for every search.
+ */
+public final class AnnotationMatcher {
+  private static final ClassValue<AnnotationMatcher> CLASS_MATCHERS = new ClassValue<AnnotationMatcher>() {
+    @Override
+    protected AnnotationMatcher computeValue(Class<?> type) {
+      return new AnnotationMatcher(type.getName());
+    }
+  };
+  private static final Map<String, AnnotationMatcher> NAME_MATCHERS = new ConcurrentHashMap<>();
+
+  private final String[] qualifiedNames;
+  private final String[] shortNames;
+
+  private AnnotationMatcher(@NotNull String... qualifiedNames) {
+    this.qualifiedNames = new String[qualifiedNames.length];
+    this.shortNames = new String[qualifiedNames.length];
+    for (int i = 0; i < qualifiedNames.length; i++) {
+      this.qualifiedNames[i] = qualifiedNames[i].intern();
+      this.shortNames[i] = StringUtil.getShortName(qualifiedNames[i]).intern();
+    }
+  }
+
+  @NotNull
+  @SafeVarargs
+  public static AnnotationMatcher of(@NotNull Class<? extends Annotation>... annotationTypes) {
+    if (annotationTypes.length == 1) {
+      return of(annotationTypes[0]);
+    }
+    final String[] qualifiedNames = new String[annotationTypes.length];
+    for (int i = 0; i < annotationTypes.length; i++) {
+      qualifiedNames[i] = annotationTypes[i].getName();
+    }
+    return new AnnotationMatcher(qualifiedNames);
+  }
+
+  @NotNull
+  public static AnnotationMatcher of(@NotNull Class<? extends Annotation> annotationType) {
+    return CLASS_MATCHERS.get(annotationType);
+  }
+
+  @NotNull
+  public static AnnotationMatcher of(@NotNull String... annotationFQNs) {
+    if (annotationFQNs.length == 1) {
+      return of(annotationFQNs[0]);
+    }
+    return new AnnotationMatcher(annotationFQNs);
+  }
+
+  @NotNull
+  public static AnnotationMatcher of(@NotNull String annotationFQN) {
+    return NAME_MATCHERS.computeIfAbsent(annotationFQN, AnnotationMatcher::new);
+  }
+
+  boolean isEmpty() {
+    return qualifiedNames.length == 0;
+  }
+
+  boolean matchesShortName(@Nullable String shortName) {
+    return ArrayUtil.find(shortNames, shortName) > -1;
+  }
+
+  boolean matchesQualifiedName(@Nullable String qualifiedName) {
+    return ArrayUtil.find(qualifiedNames, qualifiedName) > -1;
+  }
+
+  /**
+   * Matching of resolved (or possibly unresolved and so still short) annotation name.
+   * A single annotation also matches a suffix of its qualified name, as it always did.
+   */
+  boolean matchesResolvedName(@Nullable String annotationQualifiedName) {
+    if (qualifiedNames.length == 1) {
+      return null != annotationQualifiedName && qualifiedNames[0].endsWith(annotationQualifiedName);
+    }
+    return matchesQualifiedName(annotationQualifiedName);
+  }
+}
@@ -0,0 +1,70 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Cheap check, if a java file can use lombok at all. All lombok annotations and types live in the 'lombok' package,
+ * so they are only usable through an import of this package or by their full qualified name.
+ */
+public class LombokFileUtil {
+  private static final String LOMBOK_PACKAGE = "lombok";
+  private static final String LOMBOK_PACKAGE_PREFIX = LOMBOK_PACKAGE + ".";
+
+  /**
+   * Checks (cached per file modification) if the file containing the element may use any lombok annotation.
+   * Elements outside of java files are always considered as possible lombok users.
+   *
+   * @param psiElement element to check the containing file of
+   * @return false only if the containing java file doesn't reference lombok at all
+   */
+  public static boolean mayUseLombok(@NotNull PsiElement psiElement) {
+    final PsiFile psiFile = psiElement.getContainingFile();
+    if (!(psiFile instanceof PsiJavaFile)) {
+      return true;
+    }
+    return CachedValuesManager.getCachedValue(psiFile, new LombokUsageCachedValueProvider((PsiJavaFile) psiFile));
+  }
+
+  private static class LombokUsageCachedValueProvider implements CachedValueProvider<Boolean> {
+    private final PsiJavaFile psiJavaFile;
+
+    LombokUsageCachedValueProvider(PsiJavaFile psiJavaFile) {
+      this.psiJavaFile = psiJavaFile;
+    }
+
+    @Override
+    public Result<Boolean> compute() {
+      return Result.create(computeMayUseLombok(psiJavaFile), psiJavaFile);
+    }
+  }
+
+  private static boolean computeMayUseLombok(@NotNull PsiJavaFile psiJavaFile) {
+    if (isLombokName(psiJavaFile.getPackageName())) {
+      return true;
+    }
+
+    final PsiImportList importList = psiJavaFile.getImportList();
+    if (null != importList) {
+      for (PsiImportStatement importStatement : importList.getImportStatements()) {
+        if (isLombokName(importStatement.getQualifiedName())) {
+          return true;
+        }
+      }
+    }
+
+    // no import: lombok can only be used with full qualified names like @lombok.Getter
+    return StringUtil.contains(psiJavaFile.getViewProvider().getContents(), LOMBOK_PACKAGE_PREFIX);
+  }
+
+  private static boolean isLombokName(String qualifiedName) {
+    return null != qualifiedName && (qualifiedName.equals(LOMBOK_PACKAGE) || qualifiedName.startsWith(LOMBOK_PACKAGE_PREFIX));
+  }
+}
@@ -2,6 +2,7 @@ package de.plushnikov.intellij.plugin.util;
 
 import com.intellij.psi.*;
 import com.intellij.psi.impl.source.PsiExtensibleClass;
+import com.intellij.psi.stubs.StubElement;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -61,13 +62,34 @@ public class PsiClassUtil {
     }
   }
 
+  /**
+   * Collects all original fields and methods of the psiClass in declaration order, without calling PsiAugmentProvider
+   * and without loading AST of classes which are still backed by stubs
+   *
+   * @param psiClass psiClass to collect all members from
+   * @return all intern fields and methods of the class
+   */
   @NotNull
   public static Collection<PsiMember> collectClassMemberIntern(@NotNull PsiClass psiClass) {
-    return Arrays.stream(psiClass.getChildren()).filter(e -> e instanceof PsiField || e instanceof PsiMethod).map(PsiMember.class::cast).collect(Collectors.toList());
+    return getChildrenIntern(psiClass).filter(e -> e instanceof PsiField || e instanceof PsiMethod).map(PsiMember.class::cast).collect(Collectors.toList());
   }
 
   private static <T extends PsiElement> Collection<T> filterPsiElements(@NotNull PsiClass psiClass, @NotNull Class<T> desiredClass) {
-    return Arrays.stream(psiClass.getChildren()).filter(desiredClass::isInstance).map(desiredClass::cast).collect(Collectors.toList());
+    return getChildrenIntern(psiClass).filter(desiredClass::isInstance).map(desiredClass::cast).collect(Collectors.toList());
+  }
+
+  /**
+   * Children of the psiClass taken from its stub if there is one, {@link PsiElement#getChildren()} would load AST
+   */
+  @NotNull
+  private static Stream<? extends PsiElement> getChildrenIntern(@NotNull PsiClass psiClass) {
+    if (psiClass instanceof StubBasedPsiElement) {
+      final StubElement<?> stub = ((StubBasedPsiElement<?>) psiClass).getStub();
+      if (null != stub) {
+        return stub.getChildrenStubs().stream().map(StubElement::getPsi);
+      }
+    }
+    return Arrays.stream(psiClass.getChildren());
   }
 
   @NotNull
@@ -106,11 +128,16 @@ public class PsiClassUtil {
   }
 
   /**
-   * Creates a PsiType for a PsiClass enriched with generic substitution information if available
+   * Returns a PsiType for a PsiClass enriched with generic substitution information if available,
+   * shared by all generated members of the class
    */
   @NotNull
   public static PsiClassType getTypeWithGenerics(@NotNull PsiClass psiClass) {
-    final PsiElementFactory factory = JavaPsiFacade.getElementFactory(psiClass.getProject());
+    return PsiTypePool.getInstance(psiClass).getTypeWithGenerics();
+  }
+
+  @NotNull
+  static PsiClassType createTypeWithGenerics(@NotNull PsiClass psiClass, @NotNull PsiElementFactory factory) {
     final PsiType[] psiTypes = Stream.of(psiClass.getTypeParameters()).map(factory::createType).toArray(PsiType[]::new);
     if (psiTypes.length > 0)
       return factory.createType(psiClass, psiTypes);
@@ -0,0 +1,83 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import de.plushnikov.intellij.plugin.provider.LombokAugmentProvider;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Types created for generated members of one class, shared by all field, method and inner class augments of it and
+ * cached with the same dependency as these, see {@link LombokAugmentProvider#getDependency}. Types are created with
+ * the class as context, so their text alone identifies them: the resolve scope is always the one of the class.
+ */
+public final class PsiTypePool {
+  private final PsiClass psiClass;
+  private final ConcurrentMap<String, PsiType> typesFromText = new ConcurrentHashMap<>();
+  private volatile PsiClassType typeWithGenerics;
+
+  private PsiTypePool(@NotNull PsiClass psiClass) {
+    this.psiClass = psiClass;
+  }
+
+  @NotNull
+  public static PsiTypePool getInstance(@NotNull PsiClass psiClass) {
+    return CachedValuesManager.getCachedValue(psiClass, new PsiTypePoolCachedValueProvider(psiClass));
+  }
+
+  /**
+   * @param text canonical text of the type, resolved in the context of the class
+   * @return shared type for the text
+   */
+  @NotNull
+  public PsiType createTypeFromText(@NotNull String text) {
+    PsiType result = typesFromText.get(text);
+    if (null == result) {
+      // creation isn't done inside the map, it may ask for other types of the same pool
+      result = getElementFactory().createTypeFromText(text, psiClass);
+      final PsiType previousType = typesFromText.putIfAbsent(text, result);
+      if (null != previousType) {
+        result = previousType;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return shared type of the class parametrized with its own type parameters
+   */
+  @NotNull
+  public PsiClassType getTypeWithGenerics() {
+    PsiClassType result = typeWithGenerics;
+    if (null == result) {
+      result = PsiClassUtil.createTypeWithGenerics(psiClass, getElementFactory());
+      typeWithGenerics = result;
+    }
+    return result;
+  }
+
+  @NotNull
+  private PsiElementFactory getElementFactory() {
+    return JavaPsiFacade.getElementFactory(psiClass.getProject());
+  }
+
+  private static class PsiTypePoolCachedValueProvider implements CachedValueProvider<PsiTypePool> {
+    private final PsiClass psiClass;
+
+    PsiTypePoolCachedValueProvider(PsiClass psiClass) {
+      this.psiClass = psiClass;
+    }
+
+    @Override
+    public Result<PsiTypePool> compute() {
+      return Result.create(new PsiTypePool(psiClass), LombokAugmentProvider.getDependency(psiClass));
+    }
+  }
+}
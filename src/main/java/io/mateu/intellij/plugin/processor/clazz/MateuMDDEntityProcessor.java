@@ -180,23 +180,25 @@ public class MateuMDDEntityProcessor extends AbstractClassProcessor {
   private PsiMethod createNoArgsConstructor(PsiClass psiClass, PsiAnnotation psiAnnotation) {
     final PsiManager psiManager = psiClass.getManager();
 
-
-    String blockText = ""; //""System.out.println(\"hola!\");";
-
-    for (PsiField requiredField : getRequiredFields(psiClass)) {
-      final String fieldInitializer = PsiTypesUtil.getDefaultValueOfType(requiredField.getType());
-        blockText += "this." + requiredField.getName() + " = " + fieldInitializer + ";";
-    }
-
     final LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(psiManager, getConstructorName(psiClass))
       .withConstructor(true)
       .withContainingClass(psiClass)
       .withNavigationElement(psiAnnotation)
       .withModifier(PsiModifier.PROTECTED);
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(createNoArgsConstructorBlockText(psiClass), methodBuilder));
     return methodBuilder;
   }
 
+  private String createNoArgsConstructorBlockText(PsiClass psiClass) {
+    final StringBuilder blockText = new StringBuilder(); //""System.out.println(\"hola!\");";
+
+    for (PsiField requiredField : getRequiredFields(psiClass)) {
+      final String fieldInitializer = PsiTypesUtil.getDefaultValueOfType(requiredField.getType());
+      blockText.append("this.").append(requiredField.getName()).append(" = ").append(fieldInitializer).append(";");
+    }
+    return blockText.toString();
+  }
+
   @NotNull
   public Collection<PsiField> getRequiredFields(@NotNull PsiClass psiClass) {
     Collection<PsiField> result = new ArrayList<>();
@@ -208,7 +210,7 @@ public class MateuMDDEntityProcessor extends AbstractClassProcessor {
         final boolean isFinal = isFieldFinal(psiField, modifierList, classAnnotatedWithValue);
         final boolean isNonNull = PsiAnnotationSearchUtil.isAnnotatedWith(psiField, LombokUtils.NON_NULL_PATTERN);
         // accept initialized final or nonnull fields
-        if ((isFinal || isNonNull) && null == psiField.getInitializer()) {
+        if ((isFinal || isNonNull) && !psiField.hasInitializer()) {
           result.add(psiField);
         }
       }
@@ -239,7 +241,7 @@ public class MateuMDDEntityProcessor extends AbstractClassProcessor {
 
         boolean isFinal = isFieldFinal(psiField, modifierList, classAnnotatedWithValue);
         // skip initialized final fields
-        addField &= (!isFinal || null == psiField.getInitializer() ||
+        addField &= (!isFinal || !psiField.hasInitializer() ||
           PsiAnnotationSearchUtil.findAnnotation(psiField, BUILDER_DEFAULT_ANNOTATION) != null);
       }
 
@@ -258,6 +260,16 @@ public class MateuMDDEntityProcessor extends AbstractClassProcessor {
   private PsiMethod createToStringMethod(PsiClass psiClass, PsiAnnotation psiAnnotation) {
     final PsiManager psiManager = psiClass.getManager();
 
+    final LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(psiManager, "toString")
+      .withMethodReturnType(PsiType.getJavaLangString(psiManager, GlobalSearchScope.allScope(psiClass.getProject())))
+      .withContainingClass(psiClass)
+      .withNavigationElement(psiAnnotation)
+      .withModifier(PsiModifier.PUBLIC);
+    methodBuilder.withBody(() -> PsiMethodUtil.createCodeBlockFromText(createToStringBlockText(psiClass), methodBuilder));
+    return methodBuilder;
+  }
+
+  private String createToStringBlockText(PsiClass psiClass) {
     String blockText = "return \"zz \" + this.getClass().getSimpleName();";
     PsiField nameField = getFieldByName(psiClass, "name");
     if (nameField != null) {
@@ -281,14 +293,7 @@ public class MateuMDDEntityProcessor extends AbstractClassProcessor {
       }
 
     }
-
-    final LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(psiManager, "toString")
-      .withMethodReturnType(PsiType.getJavaLangString(psiManager, GlobalSearchScope.allScope(psiClass.getProject())))
-      .withContainingClass(psiClass)
-      .withNavigationElement(psiAnnotation)
-      .withModifier(PsiModifier.PUBLIC);
-    methodBuilder.withBody(PsiMethodUtil.createCodeBlockFromText(blockText, methodBuilder));
-    return methodBuilder;
+    return blockText;
   }
 
   private boolean isMethodDefined(PsiClass psiClass, String methodName) {
@@ -0,0 +1,54 @@
+package de.plushnikov.intellij.plugin.extension;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+
+import java.util.Set;
+
+public class LombokGeneratedNameIndexTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testCollectAccessorAndBuilderNames() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "import lombok.*;\n" +
+      "@Getter @Builder(builderMethodName = \"create\") @ToString\n" +
+      "public class Bean { @Setter private int mValue; private boolean active; }");
+
+    final Set<String> names = LombokGeneratedNameIndex.collectGeneratedNames(psiFile);
+    assertContainsElements(names, "getMValue", "getValue", "setValue", "isActive", "getActive", "toString",
+      "BeanBuilder", "create", "build", "mValue", "active");
+    assertDoesntContain(names, "setActive", "builder", "hashCode", LombokGeneratedNameIndex.ANY_NAME);
+  }
+
+  public void testFileWithoutLombokIsNotIndexed() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Plain.java", "public class Plain { private int value; }");
+
+    assertFalse(LombokGeneratedNameIndex.mayGenerate(psiFile.getClasses()[0], "getValue"));
+  }
+
+  public void testMayGenerateInClass() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "@lombok.Data public class Bean { private int value; }");
+    final PsiClass psiClass = psiFile.getClasses()[0];
+
+    assertTrue(LombokGeneratedNameIndex.mayGenerate(psiClass, "getValue"));
+    assertTrue(LombokGeneratedNameIndex.mayGenerate(psiClass, "hashCode"));
+    assertFalse(LombokGeneratedNameIndex.mayGenerate(psiClass, "BeanBuilder"));
+    assertTrue(LombokGeneratedNameIndex.mayGenerate("setValue", GlobalSearchScope.projectScope(getProject())));
+  }
+
+  public void testMayGenerateAnyAccessorInClass() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "public class Bean { @lombok.Setter private int value; private int other; }");
+    final PsiClass psiClass = psiFile.getClasses()[0];
+
+    assertTrue(LombokGeneratedNameIndex.mayGenerateAny(psiClass, LombokGeneratedNameIndex.getAccessorNames("value")));
+    assertFalse(LombokGeneratedNameIndex.mayGenerateAny(psiClass, LombokGeneratedNameIndex.getAccessorNames("other")));
+  }
+
+  public void testUnpredictableNamesUseWildcard() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "import lombok.*;\n" +
+      "public class Bean { @Delegate private Runnable runnable; }");
+
+    assertContainsElements(LombokGeneratedNameIndex.collectGeneratedNames(psiFile), LombokGeneratedNameIndex.ANY_NAME);
+    assertTrue(LombokGeneratedNameIndex.mayGenerate(psiFile.getClasses()[0], "run"));
+  }
+}
@@ -0,0 +1,78 @@
+package de.plushnikov.intellij.plugin.language.psi;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.impl.source.DummyHolder;
+import com.intellij.psi.impl.source.DummyHolderFactory;
+import com.intellij.psi.impl.source.tree.TreeElement;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IReparseableElementType;
+import com.intellij.psi.util.PsiTreeUtil;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+import de.plushnikov.intellij.plugin.language.LombokConfigLanguage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class LombokConfigPropertyElementTypeTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testIsProperty() {
+    assertTrue(LombokConfigPropertyElementType.isProperty("lombok.log.fieldName = LOG"));
+    assertTrue(LombokConfigPropertyElementType.isProperty("lombok.accessors.prefix += m"));
+    assertFalse(LombokConfigPropertyElementType.isProperty("lombok.log.fieldName ="));
+    assertFalse(LombokConfigPropertyElementType.isProperty("lombok.log.fieldName = LOG\nlombok.accessors.chain = true"));
+    assertFalse(LombokConfigPropertyElementType.isProperty("clear lombok.accessors.prefix"));
+  }
+
+  public void testEditedPropertyIsReparsed() {
+    final PsiFile psiFile = myFixture.configureByText("lombok.config", "lombok.log.fieldName = LOG   \n" +
+      "lombok.accessors.chain = true\n");
+    final List<LombokConfigProperty> properties = PsiTreeUtil.getChildrenOfTypeAsList(psiFile, LombokConfigProperty.class);
+    assertSize(2, properties);
+    assertEquals("lombok.accessors.chain", LombokConfigPsiUtil.getKey(properties.get(1)));
+
+    final Document document = myFixture.getEditor().getDocument();
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+      document.replaceString(document.getText().indexOf("true"), document.getText().indexOf("true") + "true".length(), "false");
+      PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+    });
+
+    final List<LombokConfigProperty> reparsedProperties = PsiTreeUtil.getChildrenOfTypeAsList(psiFile, LombokConfigProperty.class);
+    assertSize(2, reparsedProperties);
+    assertSame(properties.get(0), reparsedProperties.get(0));
+    assertEquals("false", LombokConfigPsiUtil.getValue(reparsedProperties.get(1)));
+  }
+
+  /**
+   * Runs the steps of the incremental reparse on the edited property: the new text must be accepted
+   * and its chameleon must have the same structure as a property of a full parse
+   */
+  public void testEditedPropertyChameleon() {
+    final PsiFile psiFile = myFixture.configureByText("lombok.config", "lombok.accessors.prefix += m\n");
+    final LombokConfigProperty property = PsiTreeUtil.getChildOfType(psiFile, LombokConfigProperty.class);
+    assertNotNull(property);
+    final ASTNode propertyNode = property.getNode();
+    final IReparseableElementType elementType = (IReparseableElementType) propertyNode.getElementType();
+
+    final String newText = "lombok.accessors.prefix += f";
+    assertTrue(elementType.isParsable(propertyNode.getTreeParent(), newText, LombokConfigLanguage.INSTANCE, getProject()));
+    assertFalse(elementType.isParsable(propertyNode.getTreeParent(), "lombok.accessors.prefix +=", LombokConfigLanguage.INSTANCE, getProject()));
+
+    final ASTNode chameleon = elementType.createNode(newText);
+    assertNotNull(chameleon);
+    final DummyHolder holder = DummyHolderFactory.createHolder(psiFile.getManager(), psiFile);
+    holder.getTreeElement().rawAddChildren((TreeElement) chameleon);
+
+    assertEquals(newText, chameleon.getText());
+    assertEquals(getChildTypes(propertyNode), getChildTypes(chameleon));
+    assertEquals("f", LombokConfigPsiUtil.getValue((LombokConfigProperty) chameleon.getPsi()));
+  }
+
+  private static List<IElementType> getChildTypes(ASTNode node) {
+    return Arrays.stream(node.getChildren(null)).map(ASTNode::getElementType).collect(Collectors.toList());
+  }
+}
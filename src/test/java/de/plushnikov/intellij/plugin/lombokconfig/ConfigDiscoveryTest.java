@@ -1,5 +1,6 @@
 package de.plushnikov.intellij.plugin.lombokconfig;
 
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiClass;
@@ -16,12 +17,17 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -29,6 +35,7 @@ public class ConfigDiscoveryTest {
 
   private static final String EXPECTED_VALUE = "xyz";
   private ConfigDiscovery discovery;
+  private boolean dumbMode;
 
   @Mock
   private FileBasedIndex fileBasedIndex;
@@ -48,7 +55,27 @@ public class ConfigDiscoveryTest {
 
   @Before
   public void setUp() {
-    discovery = new ConfigDiscovery(fileBasedIndex);
+    discovery = new ConfigDiscovery(fileBasedIndex) {
+      private final Map<String, ResolvedConfig> configCache = new HashMap<>();
+      private final Map<VirtualFile, ResolvedConfig> directoryConfigCache = new HashMap<>();
+
+      @NotNull
+      @Override
+      Map<String, ResolvedConfig> getConfigCache(@NotNull Project project) {
+        return configCache;
+      }
+
+      @NotNull
+      @Override
+      Map<VirtualFile, ResolvedConfig> getDirectoryConfigCache(@NotNull Project project) {
+        return directoryConfigCache;
+      }
+
+      @Override
+      boolean isDumb(@NotNull Project project) {
+        return dumbMode;
+      }
+    };
 
     when(project.getUserData(any(Key.class))).thenReturn(globalSearchScope);
 
@@ -70,8 +97,7 @@ public class ConfigDiscoveryTest {
   @Test
   public void testStringConfigPropertySameDirectory() {
     final ConfigKey configKey = ConfigKey.ACCESSORS_CHAIN;
-    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, new ConfigIndexKey("/a/b/c/d/e/f", configKey.getConfigKey()), globalSearchScope))
-      .thenReturn(makeValue(EXPECTED_VALUE));
+    makeConfigFile("/a/b/c/d/e/f", configKey, EXPECTED_VALUE);
 
     final String property = discovery.getStringLombokConfigProperty(configKey, psiClass);
     assertNotNull(property);
@@ -81,8 +107,7 @@ public class ConfigDiscoveryTest {
   @Test
   public void testStringConfigPropertySubDirectory() {
     final ConfigKey configKey = ConfigKey.ACCESSORS_CHAIN;
-    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, new ConfigIndexKey("/a/b/c/d/e", configKey.getConfigKey()), globalSearchScope))
-      .thenReturn(makeValue(EXPECTED_VALUE));
+    makeConfigFile("/a/b/c/d/e", configKey, EXPECTED_VALUE);
 
     final String property = discovery.getStringLombokConfigProperty(configKey, psiClass);
     assertNotNull(property);
@@ -92,6 +117,7 @@ public class ConfigDiscoveryTest {
   @Test
   public void testStringConfigPropertySubDirectoryStopBubling() {
     final ConfigKey configKey = ConfigKey.ACCESSORS_CHAIN;
+    makeConfigFile("/a/b/c/d/e", ConfigKey.CONFIG_STOP_BUBBLING, "true");
 
     final String property = discovery.getStringLombokConfigProperty(configKey, psiClass);
     assertNotNull(property);
@@ -101,14 +127,9 @@ public class ConfigDiscoveryTest {
   @Test
   public void testMultipleStringConfigProperty() {
     final ConfigKey configKey = ConfigKey.ACCESSORS_PREFIX;
-    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, new ConfigIndexKey("/a/b/c", configKey.getConfigKey()), globalSearchScope))
-      .thenReturn(makeValue("+a;+b"));
-    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, new ConfigIndexKey("/a/b/c/d", configKey.getConfigKey()), globalSearchScope))
-      .thenReturn(makeValue("-a;+cc"));
-    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, new ConfigIndexKey("/a/b/c/d/e", configKey.getConfigKey()), globalSearchScope))
-      .thenReturn(Collections.emptyList());
-    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, new ConfigIndexKey("/a/b/c/d/e/f", configKey.getConfigKey()), globalSearchScope))
-      .thenReturn(makeValue("+_d;"));
+    makeConfigFile("/a/b/c", configKey, "+a;+b");
+    makeConfigFile("/a/b/c/d", configKey, "-a;+cc");
+    makeConfigFile("/a/b/c/d/e/f", configKey, "+_d;");
 
     final String[] properties = discovery.getMultipleValueLombokConfigProperty(configKey, psiClass);
     assertNotNull(properties);
@@ -119,16 +140,67 @@ public class ConfigDiscoveryTest {
     assertTrue(list.contains("_d"));
   }
 
-  @NotNull
-  private List<ConfigValue> makeValue(String value) {
-    return Collections.singletonList(new ConfigValue(value, false));
+  @Test
+  public void testResolvedConfigIsReused() {
+    final ConfigKey configKey = ConfigKey.ACCESSORS_CHAIN;
+    final Map<ConfigKey, String> configValues = new EnumMap<>(ConfigKey.class);
+    configValues.put(ConfigKey.CONFIG_STOP_BUBBLING, "true");
+    configValues.put(configKey, EXPECTED_VALUE);
+    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, "/a/b/c/d/e/f", globalSearchScope))
+      .thenReturn(Collections.singletonList(configValues));
+
+    assertEquals(EXPECTED_VALUE, discovery.getStringLombokConfigProperty(configKey, psiClass));
+    assertEquals(EXPECTED_VALUE, discovery.getStringLombokConfigProperty(configKey, psiClass));
+    assertEquals(ConfigKey.ACCESSORS_FLUENT.getConfigDefaultValue(), discovery.getStringLombokConfigProperty(ConfigKey.ACCESSORS_FLUENT, psiClass));
+
+    verify(fileBasedIndex, times(1)).getValues(LombokConfigIndex.NAME, "/a/b/c/d/e/f", globalSearchScope);
+    verify(parentVirtualFile, times(1)).getCanonicalPath();
+  }
+
+  @Test
+  public void testDefaultValuesInDumbModeAreNotCached() {
+    final ConfigKey configKey = ConfigKey.ACCESSORS_CHAIN;
+    final Map<ConfigKey, String> configValues = new EnumMap<>(ConfigKey.class);
+    configValues.put(ConfigKey.CONFIG_STOP_BUBBLING, "true");
+    configValues.put(configKey, EXPECTED_VALUE);
+    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, "/a/b/c/d/e/f", globalSearchScope))
+      .thenReturn(Collections.singletonList(configValues));
+
+    dumbMode = true;
+    assertEquals(configKey.getConfigDefaultValue(), discovery.getStringLombokConfigProperty(configKey, psiClass));
+
+    dumbMode = false;
+    assertEquals(EXPECTED_VALUE, discovery.getStringLombokConfigProperty(configKey, psiClass));
+
+    verify(fileBasedIndex, times(1)).getValues(LombokConfigIndex.NAME, "/a/b/c/d/e/f", globalSearchScope);
+  }
+
+  @Test
+  public void testResolvedConfigReadsSeveralKeys() {
+    final Map<ConfigKey, String> configValues = new EnumMap<>(ConfigKey.class);
+    configValues.put(ConfigKey.CONFIG_STOP_BUBBLING, "true");
+    configValues.put(ConfigKey.ACCESSORS_CHAIN, "true");
+    configValues.put(ConfigKey.ACCESSORS_PREFIX, "+m;");
+    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, "/a/b/c/d/e/f", globalSearchScope))
+      .thenReturn(Collections.singletonList(configValues));
+
+    final ResolvedConfig resolvedConfig = discovery.getResolvedConfig(psiClass);
+    assertTrue(resolvedConfig.getBooleanValue(ConfigKey.ACCESSORS_CHAIN));
+    assertEquals(ConfigKey.ACCESSORS_FLUENT.getConfigDefaultValue(), resolvedConfig.getValue(ConfigKey.ACCESSORS_FLUENT));
+    assertArrayEquals(new String[]{"m"}, resolvedConfig.getMultipleValues(ConfigKey.ACCESSORS_PREFIX));
+
+    verify(fileBasedIndex, times(1)).getValues(LombokConfigIndex.NAME, "/a/b/c/d/e/f", globalSearchScope);
+  }
+
+  private void makeConfigFile(String directoryName, ConfigKey configKey, String value) {
+    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, directoryName, globalSearchScope))
+      .thenReturn(Collections.singletonList(Collections.singletonMap(configKey, value)));
   }
 
   @Test
   public void testMultipleStringConfigPropertyWithStopBubbling() {
     final ConfigKey configKey = ConfigKey.ACCESSORS_PREFIX;
-    when(fileBasedIndex.getValues(LombokConfigIndex.NAME, new ConfigIndexKey("/a/b/c/d/e/f", configKey.getConfigKey()), globalSearchScope))
-      .thenReturn(makeValue("+_d;"));
+    makeConfigFile("/a/b/c/d/e/f", configKey, "+_d;");
 
     final String[] properties = discovery.getMultipleValueLombokConfigProperty(configKey, psiClass);
     assertNotNull(properties);
@@ -0,0 +1,51 @@
+package de.plushnikov.intellij.plugin.lombokconfig;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+
+public class LombokConfigChangeTrackerTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testOnlyConfigChangesAreTracked() {
+    final LombokConfigChangeTracker tracker = LombokConfigChangeTracker.getInstance(getProject());
+
+    long modificationCount = tracker.getModificationCount();
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("config/Bean.java", "public class Bean { }");
+    assertEquals(modificationCount, tracker.getModificationCount());
+
+    myFixture.addFileToProject("config/lombok.config", "lombok.log.fieldName = LOG\n");
+    assertTrue(modificationCount < tracker.getModificationCount());
+
+    modificationCount = tracker.getModificationCount();
+    final PsiClass psiClass = psiFile.getClasses()[0];
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> psiClass.setName("OtherBean"));
+    assertEquals(modificationCount, tracker.getModificationCount());
+  }
+
+  public void testConfigChangeRefreshesResolvedConfig() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("config/Bean.java", "public class Bean { }");
+    final PsiClass psiClass = psiFile.getClasses()[0];
+    assertEquals("log", ConfigDiscovery.getInstance().getStringLombokConfigProperty(ConfigKey.LOG_FIELDNAME, psiClass));
+
+    myFixture.addFileToProject("config/lombok.config", "lombok.log.fieldName = LOG\n");
+    assertEquals("LOG", ConfigDiscovery.getInstance().getStringLombokConfigProperty(ConfigKey.LOG_FIELDNAME, psiClass));
+  }
+
+  public void testOnlyDirectoriesWithConfigAreTracked() throws Exception {
+    final LombokConfigChangeTracker tracker = LombokConfigChangeTracker.getInstance(getProject());
+    final VirtualFile plainDirectory = myFixture.addFileToProject("plain/Bean.java", "public class Bean { }").getVirtualFile().getParent();
+    final VirtualFile configDirectory = myFixture.addFileToProject("config/lombok.config", "lombok.log.fieldName = LOG\n").getVirtualFile().getParent();
+
+    final long modificationCount = tracker.getModificationCount();
+    final long directoryModificationCount = tracker.getDirectoryTracker().getModificationCount();
+    WriteAction.runAndWait(() -> plainDirectory.rename(this, "otherPlain"));
+    assertEquals(modificationCount, tracker.getModificationCount());
+    assertTrue(directoryModificationCount < tracker.getDirectoryTracker().getModificationCount());
+
+    WriteAction.runAndWait(() -> configDirectory.rename(this, "otherConfig"));
+    assertTrue(modificationCount < tracker.getModificationCount());
+  }
+}
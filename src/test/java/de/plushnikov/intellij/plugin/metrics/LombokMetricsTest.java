@@ -0,0 +1,54 @@
+package de.plushnikov.intellij.plugin.metrics;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class LombokMetricsTest {
+
+  @After
+  public void tearDown() {
+    LombokMetrics.setEnabled(false);
+    LombokMetrics.reset();
+  }
+
+  @Test
+  public void testDisabledMetricsRecordNothing() {
+    LombokMetrics.setEnabled(false);
+
+    LombokMetrics.stopTiming(LombokMetrics.PROCESSOR, String.class, LombokMetrics.startTiming());
+    LombokMetrics.recordCacheRequest(LombokMetrics.AUGMENT_CACHE);
+
+    assertTrue(LombokMetrics.getTimings().isEmpty());
+    assertTrue(LombokMetrics.getCaches().isEmpty());
+  }
+
+  @Test
+  public void testTimingsAndCaches() {
+    LombokMetrics.setEnabled(true);
+
+    LombokMetrics.stopTiming(LombokMetrics.PROCESSOR, String.class, LombokMetrics.startTiming());
+    LombokMetrics.stopTiming(LombokMetrics.PROCESSOR, String.class, LombokMetrics.startTiming());
+    LombokMetrics.recordCacheRequest(LombokMetrics.AUGMENT_CACHE);
+    LombokMetrics.recordCacheRequest(LombokMetrics.AUGMENT_CACHE);
+    LombokMetrics.recordCacheMiss(LombokMetrics.AUGMENT_CACHE);
+
+    final LombokMetrics.Timing timing = LombokMetrics.getTimings().get(LombokMetrics.PROCESSOR + ":String");
+    assertNotNull(timing);
+    assertEquals(2, timing.getCount());
+    assertTrue(timing.getPercentile(0.5) <= timing.getPercentile(0.99));
+
+    final LombokMetrics.CacheStatistic cache = LombokMetrics.getCaches().get(LombokMetrics.AUGMENT_CACHE);
+    assertNotNull(cache);
+    assertEquals(2, cache.getRequests());
+    assertEquals(1, cache.getMisses());
+    assertEquals(0.5, cache.getHitRate(), 0.001);
+
+    final String json = LombokMetrics.toJson();
+    assertTrue(json.contains("\"name\": \"processor:String\""));
+    assertTrue(json.contains("\"requests\": 2"));
+  }
+}
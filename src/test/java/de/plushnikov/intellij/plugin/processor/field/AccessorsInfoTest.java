@@ -0,0 +1,65 @@
+package de.plushnikov.intellij.plugin.processor.field;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.project.DumbServiceImpl;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiModifierList;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+
+public class AccessorsInfoTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testAccessorsInfoIsSharedPerClass() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "import lombok.experimental.Accessors;\n" +
+      "@Accessors(fluent = true) public class Bean { private int value; @Accessors(prefix = \"m\") private int mItem;\n" +
+      "  public static class Inner { private int count; } }");
+    final PsiClass psiClass = psiFile.getClasses()[0];
+    final PsiClass innerClass = psiClass.getInnerClasses()[0];
+
+    final AccessorsInfo classAccessorsInfo = AccessorsInfo.build(psiClass);
+    assertTrue(classAccessorsInfo.isFluent());
+    assertSame(classAccessorsInfo, AccessorsInfo.build(psiClass));
+    assertSame(classAccessorsInfo, AccessorsInfo.build(psiClass.findFieldByName("value", false)));
+
+    final AccessorsInfo itemAccessorsInfo = AccessorsInfo.build(psiClass.findFieldByName("mItem", false));
+    assertFalse(itemAccessorsInfo.isFluent());
+    assertEquals("item", itemAccessorsInfo.removePrefix("mItem"));
+    assertSame(itemAccessorsInfo, AccessorsInfo.build(psiClass.findFieldByName("mItem", false)));
+
+    assertTrue(AccessorsInfo.build(innerClass.findFieldByName("count", false)).isFluent());
+  }
+
+  public void testAccessorsInfoIsRecomputedAfterDumbMode() {
+    myFixture.addFileToProject("lombok.config", "lombok.accessors.fluent = true\n");
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "public class Bean { private int value; }");
+    final PsiClass psiClass = psiFile.getClasses()[0];
+
+    DumbServiceImpl.getInstance(getProject()).setDumb(true);
+    try {
+      AccessorsInfo.build(psiClass.findFieldByName("value", false));
+    } finally {
+      DumbServiceImpl.getInstance(getProject()).setDumb(false);
+    }
+
+    assertTrue(AccessorsInfo.build(psiClass.findFieldByName("value", false)).isFluent());
+    assertTrue(AccessorsInfo.build(psiClass).isFluent());
+  }
+
+  public void testAccessorsInfoOfCopyFollowsItsChanges() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "public class Bean { private int value; }");
+    final PsiClass copy = (PsiClass) psiFile.getClasses()[0].copy();
+    assertFalse(AccessorsInfo.build(copy).isFluent());
+
+    final PsiModifierList modifierList = copy.getModifierList();
+    assertNotNull(modifierList);
+    final PsiAnnotation annotation = JavaPsiFacade.getElementFactory(getProject())
+      .createAnnotationFromText("@lombok.experimental.Accessors(fluent = true)", copy);
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+      modifierList.addBefore(annotation, modifierList.getFirstChild());
+    });
+
+    assertTrue(AccessorsInfo.build(copy).isFluent());
+  }
+}
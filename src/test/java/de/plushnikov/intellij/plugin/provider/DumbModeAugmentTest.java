@@ -0,0 +1,46 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.openapi.project.DumbServiceImpl;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+
+public class DumbModeAugmentTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testDumbAwareProcessorsRunInDumbMode() {
+    final PsiClass psiClass = configureClass("import lombok.*;\n@Getter @Setter @NoArgsConstructor @EqualsAndHashCode public class Bean { private int value; }");
+
+    setDumb(true);
+    try {
+      assertSize(1, psiClass.findMethodsByName("getValue", false));
+      assertSize(1, psiClass.findMethodsByName("setValue", false));
+      assertSize(1, psiClass.getConstructors());
+      assertEmpty(psiClass.findMethodsByName("hashCode", false));
+    } finally {
+      setDumb(false);
+    }
+  }
+
+  public void testAllProcessorsRunAfterDumbMode() {
+    final PsiClass psiClass = configureClass("import lombok.*;\n@Getter @EqualsAndHashCode public class Bean { private int value; }");
+
+    setDumb(true);
+    try {
+      assertEmpty(psiClass.findMethodsByName("hashCode", false));
+    } finally {
+      setDumb(false);
+    }
+
+    assertSize(1, psiClass.findMethodsByName("getValue", false));
+    assertSize(1, psiClass.findMethodsByName("hashCode", false));
+  }
+
+  private PsiClass configureClass(String text) {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", text);
+    return psiFile.getClasses()[0];
+  }
+
+  private void setDumb(boolean dumb) {
+    DumbServiceImpl.getInstance(getProject()).setDumb(dumb);
+  }
+}
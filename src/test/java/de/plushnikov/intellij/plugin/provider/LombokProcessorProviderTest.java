@@ -0,0 +1,25 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+import de.plushnikov.intellij.plugin.processor.Processor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+public class LombokProcessorProviderTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testProcessorsAfterReinitialization() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "import lombok.*;\n" +
+      "@Getter public class Bean { @Setter private int value; }");
+    final PsiClass psiClass = psiFile.getClasses()[0];
+    final LombokProcessorProvider processorProvider = LombokProcessorProvider.getInstance(getProject());
+
+    final Collection<Processor> processors = new ArrayList<>(processorProvider.getLombokProcessors(psiClass));
+    assertFalse(processors.isEmpty());
+
+    processorProvider.initProcessors();
+    assertOrderedEquals(processorProvider.getLombokProcessors(psiClass), processors);
+  }
+}
@@ -0,0 +1,133 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.openapi.util.io.BufferExposingByteArrayOutputStream;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCodeBlock;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiParameter;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+import de.plushnikov.intellij.plugin.processor.Processor;
+import de.plushnikov.intellij.plugin.psi.LombokLightFieldBuilder;
+import de.plushnikov.intellij.plugin.psi.LombokLightMethodBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class LombokSignatureCacheTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testSignaturesRoundTrip() throws IOException {
+    final PsiClass psiClass = configureClass("import lombok.*;\n" +
+      "@Getter @Setter @AllArgsConstructor @lombok.extern.java.Log\n" +
+      "public class Bean<T> { private int value; private java.util.List<T> items; }");
+
+    final LombokAugmentSnapshot snapshot = createSnapshot(psiClass);
+    final List<MemberSignature> signatures = LombokSignatureCache.toSignatures(psiClass, snapshot);
+    assertNotNull(signatures);
+
+    final BufferExposingByteArrayOutputStream outputStream = new BufferExposingByteArrayOutputStream();
+    MemberSignature.EXTERNALIZER.save(new DataOutputStream(outputStream), signatures);
+    final List<MemberSignature> readSignatures = MemberSignature.EXTERNALIZER.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+
+    final LombokAugmentSnapshot restoredSnapshot = LombokSignatureCache.fromSignatures(psiClass, readSignatures, () -> snapshot);
+    assertMethodsEqual(snapshot.getAugments(PsiMethod.class), restoredSnapshot.getAugments(PsiMethod.class));
+    assertFieldsEqual(snapshot.getAugments(PsiField.class), restoredSnapshot.getAugments(PsiField.class));
+  }
+
+  public void testStoreAndRestoreOnFirstComputation() throws IOException {
+    final PsiClass psiClass = configureClass("import lombok.*;\n" +
+      "@Getter @Setter @AllArgsConstructor public class Bean { private int value; }");
+    final LombokAugmentSnapshot snapshot = createSnapshot(psiClass);
+    final Collection<Processor> processors = LombokProcessorProvider.getInstance(getProject()).getLombokProcessors(psiClass);
+
+    final LombokSignatureCache signatureCache = new LombokSignatureCache(new File(FileUtil.createTempDirectory("lombok", null), "signatures"), true);
+    try {
+      assertTrue(signatureCache.isFirstComputation(psiClass));
+      assertFalse(signatureCache.isFirstComputation(psiClass));
+
+      final String digest = signatureCache.computeDigest(psiClass, processors);
+      assertNotNull(digest);
+      signatureCache.store(psiClass, digest, snapshot);
+      assertNull(signatureCache.restore(psiClass, digest + "changed", () -> snapshot));
+
+      final LombokAugmentSnapshot restoredSnapshot = signatureCache.restore(psiClass, digest, () -> snapshot);
+      assertNotNull(restoredSnapshot);
+      assertMethodsEqual(snapshot.getAugments(PsiMethod.class), restoredSnapshot.getAugments(PsiMethod.class));
+    } finally {
+      signatureCache.dispose();
+    }
+  }
+
+  private static void assertMethodsEqual(List<PsiMethod> expectedMethods, List<PsiMethod> actualMethods) {
+    assertEquals(expectedMethods.size(), actualMethods.size());
+    for (int i = 0; i < expectedMethods.size(); i++) {
+      final PsiMethod expected = expectedMethods.get(i);
+      final PsiMethod actual = actualMethods.get(i);
+      assertEquals(expected, actual);
+      assertEquals(expected.isConstructor(), actual.isConstructor());
+      final PsiCodeBlock expectedBody = expected.getBody();
+      final PsiCodeBlock actualBody = actual.getBody();
+      assertEquals(null == expectedBody ? null : expectedBody.getText(), null == actualBody ? null : actualBody.getText());
+      assertEquals(expected.getNavigationElement() == expected, actual.getNavigationElement() == actual);
+      if (expected.getNavigationElement() != expected) {
+        assertSame(expected.getNavigationElement(), actual.getNavigationElement());
+      }
+      final PsiParameter[] expectedParameters = expected.getParameterList().getParameters();
+      final PsiParameter[] actualParameters = actual.getParameterList().getParameters();
+      assertEquals(expectedParameters.length, actualParameters.length);
+      for (int j = 0; j < expectedParameters.length; j++) {
+        assertEquals(expectedParameters[j].getName(), actualParameters[j].getName());
+        assertEquals(expectedParameters[j].getType().getCanonicalText(), actualParameters[j].getType().getCanonicalText());
+      }
+    }
+  }
+
+  private static void assertFieldsEqual(List<PsiField> expectedFields, List<PsiField> actualFields) {
+    assertEquals(expectedFields.size(), actualFields.size());
+    for (int i = 0; i < expectedFields.size(); i++) {
+      final PsiField expected = expectedFields.get(i);
+      final PsiField actual = actualFields.get(i);
+      assertEquals(expected.getName(), actual.getName());
+      assertEquals(expected.getType().getCanonicalText(), actual.getType().getCanonicalText());
+      for (String modifier : PsiModifier.MODIFIERS) {
+        assertEquals(expected.hasModifierProperty(modifier), actual.hasModifierProperty(modifier));
+      }
+      assertEquals(String.valueOf(expected.getInitializer()), String.valueOf(actual.getInitializer()));
+    }
+  }
+
+  private static LombokAugmentSnapshot createSnapshot(PsiClass psiClass) {
+    final List<PsiElement> fields = new ArrayList<>();
+    for (PsiField psiField : psiClass.getFields()) {
+      if (psiField instanceof LombokLightFieldBuilder) {
+        fields.add(psiField);
+      }
+    }
+    final List<PsiElement> methods = new ArrayList<>();
+    for (PsiMethod psiMethod : psiClass.getMethods()) {
+      if (psiMethod instanceof LombokLightMethodBuilder) {
+        methods.add(psiMethod);
+      }
+    }
+
+    final LombokAugmentSnapshot.Builder builder = new LombokAugmentSnapshot.Builder();
+    builder.add(PsiField.class, fields);
+    builder.add(PsiMethod.class, methods);
+    return builder.build();
+  }
+
+  private PsiClass configureClass(String text) {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", text);
+    return psiFile.getClasses()[0];
+  }
+}
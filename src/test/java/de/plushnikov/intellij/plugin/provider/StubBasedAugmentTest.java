@@ -0,0 +1,51 @@
+package de.plushnikov.intellij.plugin.provider;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.impl.PsiManagerEx;
+import com.intellij.psi.impl.source.PsiFileImpl;
+import com.intellij.psi.search.GlobalSearchScope;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+
+import java.util.Arrays;
+
+public class StubBasedAugmentTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testAugmentDoesNotLoadAst() {
+    final VirtualFile virtualFile = myFixture.addFileToProject("Bean.java", "import lombok.*;\n" +
+      "@Getter @Setter @ToString @EqualsAndHashCode @AllArgsConstructor @Builder\n" +
+      "public class Bean { private int value; private final String name = \"name\"; @Builder.Default private long count = 1L; }").getVirtualFile();
+
+    PsiManagerEx.getInstanceEx(getProject()).setAssertOnFileLoadingFilter(virtualFile::equals, getTestRootDisposable());
+
+    final PsiClass psiClass = JavaPsiFacade.getInstance(getProject()).findClass("Bean", GlobalSearchScope.projectScope(getProject()));
+    assertNotNull(psiClass);
+    assertSize(1, psiClass.findMethodsByName("getValue", false));
+    assertSize(1, psiClass.findMethodsByName("toString", false));
+    assertSize(1, psiClass.findMethodsByName("hashCode", false));
+    assertSize(1, psiClass.findMethodsByName("builder", false));
+    assertNotNull(psiClass.findInnerClassByName("BeanBuilder", false));
+
+    final PsiFile psiFile = psiClass.getContainingFile();
+    assertNull(((PsiFileImpl) psiFile).getTreeElement());
+  }
+
+  public void testMateuMDDEntityAugmentDoesNotLoadAst() {
+    final VirtualFile virtualFile = myFixture.addFileToProject("Entity.java", "import lombok.MateuMDDEntity;\n" +
+      "@MateuMDDEntity\n" +
+      "public class Entity { private final String name; private final String code = \"code\"; private int value; }").getVirtualFile();
+
+    PsiManagerEx.getInstanceEx(getProject()).setAssertOnFileLoadingFilter(virtualFile::equals, getTestRootDisposable());
+
+    final PsiClass psiClass = JavaPsiFacade.getInstance(getProject()).findClass("Entity", GlobalSearchScope.projectScope(getProject()));
+    assertNotNull(psiClass);
+    assertSize(1, psiClass.findMethodsByName("getValue", false));
+    assertSize(1, psiClass.findMethodsByName("toString", false));
+    assertNotEmpty(Arrays.asList(psiClass.getConstructors()));
+
+    final PsiFile psiFile = psiClass.getContainingFile();
+    assertNull(((PsiFileImpl) psiFile).getTreeElement());
+  }
+}
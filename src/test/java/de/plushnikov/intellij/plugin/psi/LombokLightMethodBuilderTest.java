@@ -0,0 +1,25 @@
+package de.plushnikov.intellij.plugin.psi;
+
+import com.intellij.psi.PsiCodeBlock;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+import de.plushnikov.intellij.plugin.util.PsiMethodUtil;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LombokLightMethodBuilderTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testBodyIsCreatedLazilyOnce() {
+    final AtomicInteger bodyCreations = new AtomicInteger();
+    final LombokLightMethodBuilder methodBuilder = new LombokLightMethodBuilder(getPsiManager(), "test");
+    methodBuilder.withBody(() -> {
+      bodyCreations.incrementAndGet();
+      return PsiMethodUtil.createCodeBlockFromText("return;", methodBuilder);
+    });
+    assertEquals(0, bodyCreations.get());
+
+    final PsiCodeBlock body = methodBuilder.getBody();
+    assertNotNull(body);
+    assertSame(body, methodBuilder.getBody());
+    assertEquals(1, bodyCreations.get());
+  }
+}
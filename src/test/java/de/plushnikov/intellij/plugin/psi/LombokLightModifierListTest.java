@@ -0,0 +1,64 @@
+package de.plushnikov.intellij.plugin.psi;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.psi.PsiModifier;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+
+import java.util.Collections;
+
+public class LombokLightModifierListTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testExplicitAndImplicitModifiers() {
+    final LombokLightModifierList modifierList = new LombokLightModifierList(getPsiManager(), JavaLanguage.INSTANCE,
+      Collections.singleton(PsiModifier.STATIC), PsiModifier.FINAL, PsiModifier.PUBLIC);
+
+    assertTrue(modifierList.hasModifierProperty(PsiModifier.STATIC));
+    assertFalse(modifierList.hasExplicitModifier(PsiModifier.STATIC));
+    assertTrue(modifierList.hasExplicitModifier(PsiModifier.FINAL));
+    assertOrderedEquals(modifierList.getModifiers(), PsiModifier.PUBLIC, PsiModifier.FINAL);
+
+    modifierList.setModifierProperty(PsiModifier.FINAL, false);
+    modifierList.setModifierProperty(PsiModifier.STATIC, false);
+    assertFalse(modifierList.hasModifierProperty(PsiModifier.FINAL));
+    assertTrue(modifierList.hasModifierProperty(PsiModifier.STATIC));
+    assertOrderedEquals(modifierList.getModifiers(), PsiModifier.PUBLIC);
+
+    modifierList.clearModifiers();
+    assertEmpty(modifierList.getModifiers());
+  }
+
+  public void testPackageLocalModifier() {
+    final LombokLightModifierList modifierList = new LombokLightModifierList(getPsiManager(), JavaLanguage.INSTANCE,
+      Collections.emptySet(), PsiModifier.PACKAGE_LOCAL, PsiModifier.STATIC);
+
+    assertTrue(modifierList.hasModifierProperty(PsiModifier.PACKAGE_LOCAL));
+    assertTrue(modifierList.hasExplicitModifier(PsiModifier.PACKAGE_LOCAL));
+    assertOrderedEquals(modifierList.getModifiers(), PsiModifier.STATIC, PsiModifier.PACKAGE_LOCAL);
+
+    modifierList.setModifierProperty(PsiModifier.PACKAGE_LOCAL, false);
+    assertFalse(modifierList.hasModifierProperty(PsiModifier.PACKAGE_LOCAL));
+  }
+
+  public void testUnknownModifierIsRejected() {
+    final LombokLightModifierList modifierList = new LombokLightModifierList(getPsiManager(), JavaLanguage.INSTANCE, Collections.emptySet());
+    try {
+      modifierList.addModifier("unknown");
+      fail("unknown modifier must not be dropped silently");
+    } catch (IllegalArgumentException ignored) {
+      assertFalse(modifierList.hasModifierProperty("unknown"));
+    }
+  }
+
+  public void testAnnotations() {
+    final LombokLightModifierList modifierList = new LombokLightModifierList(getPsiManager(), JavaLanguage.INSTANCE, Collections.emptySet());
+    final LombokLightModifierList otherModifierList = new LombokLightModifierList(getPsiManager(), JavaLanguage.INSTANCE, Collections.emptySet());
+    assertEmpty(modifierList.getAnnotations());
+    assertEquals(modifierList, otherModifierList);
+
+    modifierList.addAnnotation("java.lang.Deprecated");
+    modifierList.addAnnotation("java.lang.SuppressWarnings(\"all\")");
+    assertSize(2, modifierList.getAnnotations());
+    assertNotNull(modifierList.findAnnotation("java.lang.Deprecated"));
+    assertEmpty(otherModifierList.getAnnotations());
+  }
+}
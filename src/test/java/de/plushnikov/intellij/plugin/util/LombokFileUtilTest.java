@@ -0,0 +1,33 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.psi.PsiFile;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+
+public class LombokFileUtilTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testPlainJavaFile() {
+    final PsiFile psiFile = myFixture.configureByText("Plain.java", "public class Plain { private int field; }");
+    assertFalse(LombokFileUtil.mayUseLombok(psiFile));
+  }
+
+  public void testSingleClassImport() {
+    final PsiFile psiFile = myFixture.configureByText("Imported.java", "import lombok.Getter;\n@Getter public class Imported { private int field; }");
+    assertTrue(LombokFileUtil.mayUseLombok(psiFile));
+  }
+
+  public void testOnDemandImport() {
+    final PsiFile psiFile = myFixture.configureByText("OnDemand.java", "import lombok.experimental.*;\n@Wither public class OnDemand { private int field; }");
+    assertTrue(LombokFileUtil.mayUseLombok(psiFile));
+  }
+
+  public void testFullQualifiedAnnotation() {
+    final PsiFile psiFile = myFixture.configureByText("Qualified.java", "public class Qualified { @lombok.Getter private int field; }");
+    assertTrue(LombokFileUtil.mayUseLombok(psiFile));
+  }
+
+  public void testSameNamedForeignAnnotation() {
+    myFixture.addClass("package foo; public @interface Getter { }");
+    final PsiFile psiFile = myFixture.configureByText("Foreign.java", "import foo.Getter;\n@Getter public class Foreign { private int field; }");
+    assertFalse(LombokFileUtil.mayUseLombok(psiFile));
+  }
+}
@@ -0,0 +1,73 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.openapi.project.DumbServiceImpl;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+import lombok.Getter;
+import lombok.experimental.Wither;
+
+public class PsiAnnotationSearchUtilTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testSingleTypeImport() {
+    final PsiClass psiClass = configureClass("Imported.java", "import lombok.Getter;\n@Getter public class Imported { }");
+    assertTrue(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Getter.class));
+  }
+
+  public void testQualifiedForeignAnnotationWithSingleTypeImport() {
+    myFixture.addClass("package foo; public @interface Getter { }");
+    final PsiClass psiClass = configureClass("Qualified.java", "import lombok.Getter;\n@foo.Getter public class Qualified { }");
+    assertFalse(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Getter.class));
+  }
+
+  public void testOnDemandImport() {
+    final PsiClass psiClass = configureClass("OnDemand.java", "import lombok.*;\n@Getter public class OnDemand { }");
+    assertTrue(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Getter.class));
+  }
+
+  public void testOnDemandExperimentalImport() {
+    final PsiClass psiClass = configureClass("OnDemand.java", "import lombok.*;\nimport lombok.experimental.*;\n@Wither public class OnDemand { }");
+    assertTrue(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Wither.class));
+  }
+
+  public void testOnDemandImportShadowedBySamePackageClass() {
+    myFixture.addClass("package foo; public @interface Getter { }");
+    final PsiClass psiClass = configureClass("foo/OnDemand.java", "package foo;\nimport lombok.*;\n@Getter public class OnDemand { }");
+    assertFalse(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Getter.class));
+  }
+
+  public void testOnDemandImportShadowedByLaterAddedSamePackageClass() {
+    final PsiClass psiClass = configureClass("foo/OnDemand.java", "package foo;\nimport lombok.*;\n@Getter public class OnDemand { }");
+    assertTrue(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Getter.class));
+
+    myFixture.addClass("package foo; public @interface Getter { }");
+    assertFalse(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Getter.class));
+  }
+
+  public void testOnDemandImportOfForeignPackage() {
+    myFixture.addClass("package foo; public @interface Getter { }");
+    final PsiClass psiClass = configureClass("OnDemand.java", "import foo.*;\n@Getter public class OnDemand { }");
+    assertFalse(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Getter.class));
+  }
+
+  public void testQualifiedForeignAnnotationWithLombokImport() {
+    myFixture.addClass("package foo; public @interface Getter { }");
+    final PsiClass psiClass = configureClass("Qualified.java", "import lombok.*;\n@foo.Getter public class Qualified { }");
+    assertFalse(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Getter.class));
+  }
+
+  public void testOnDemandImportInDumbMode() {
+    final PsiClass psiClass = configureClass("OnDemand.java", "import lombok.*;\n@Getter public class OnDemand { }");
+    DumbServiceImpl.getInstance(getProject()).setDumb(true);
+    try {
+      assertTrue(PsiAnnotationSearchUtil.isAnnotatedWith(psiClass, Getter.class));
+    } finally {
+      DumbServiceImpl.getInstance(getProject()).setDumb(false);
+    }
+  }
+
+  private PsiClass configureClass(String fileName, String text) {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject(fileName, text);
+    return psiFile.getClasses()[0];
+  }
+}
@@ -0,0 +1,47 @@
+package de.plushnikov.intellij.plugin.util;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiTypeParameterList;
+import de.plushnikov.intellij.plugin.AbstractLombokLightCodeInsightTestCase;
+
+public class PsiTypePoolTest extends AbstractLombokLightCodeInsightTestCase {
+
+  public void testGeneratedMethodsShareTypes() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "import lombok.*;\n" +
+      "@With @AllArgsConstructor public class Bean<T> { private final int value; private final T item; }");
+    final PsiClass psiClass = psiFile.getClasses()[0];
+
+    final PsiMethod[] withValueMethods = psiClass.findMethodsByName("withValue", false);
+    final PsiMethod[] withItemMethods = psiClass.findMethodsByName("withItem", false);
+    assertSize(1, withValueMethods);
+    assertSize(1, withItemMethods);
+    assertSame(withValueMethods[0].getReturnType(), withItemMethods[0].getReturnType());
+    assertEquals("Bean<T>", withValueMethods[0].getReturnType().getCanonicalText());
+  }
+
+  public void testTypesFromTextAreShared() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "public class Bean { }");
+    final PsiTypePool typePool = PsiTypePool.getInstance(psiFile.getClasses()[0]);
+
+    assertSame(typePool.createTypeFromText("java.util.List<java.lang.String>"), typePool.createTypeFromText("java.util.List<java.lang.String>"));
+    assertSame(typePool, PsiTypePool.getInstance(psiFile.getClasses()[0]));
+  }
+
+  public void testTypeWithGenericsOfCopyFollowsItsChanges() {
+    final PsiJavaFile psiFile = (PsiJavaFile) myFixture.addFileToProject("Bean.java", "public class Bean<T> { }");
+    final PsiClass copy = (PsiClass) psiFile.getClasses()[0].copy();
+    assertEquals("Bean<T>", PsiTypePool.getInstance(copy).getTypeWithGenerics().getCanonicalText());
+
+    final PsiTypeParameterList typeParameterList = copy.getTypeParameterList();
+    assertNotNull(typeParameterList);
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+      typeParameterList.add(JavaPsiFacade.getElementFactory(getProject()).createTypeParameterFromText("U", copy));
+    });
+
+    assertEquals("Bean<T,U>", PsiTypePool.getInstance(copy).getTypeWithGenerics().getCanonicalText());
+  }
+}